@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.launching.environments.ExecutionEnvironmentDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Creates the baselines analyzed by the benchmarks, without OSGi.
+ */
+final class BenchmarkBaselines {
+
+	private BenchmarkBaselines() {
+	}
+
+	/**
+	 * Creates a baseline with the running JRE as execution environment and a
+	 * component for each of the given bundles.
+	 *
+	 * @param name the name of the baseline
+	 * @param bundles paths of the bundle jars or directories
+	 * @return the new baseline
+	 * @throws CoreException if a bundle cannot be read
+	 */
+	static IApiBaseline createBaseline(String name, String... bundles) throws CoreException {
+		ExecutionEnvironmentDescription ee = new ExecutionEnvironmentDescription(Map.of( //
+				ExecutionEnvironmentDescription.JAVA_HOME, System.getProperty("java.home"), //$NON-NLS-1$
+				ExecutionEnvironmentDescription.BOOT_CLASS_PATH, Util.getJavaClassLibsAsString(),
+				ExecutionEnvironmentDescription.LANGUAGE_LEVEL, "17", //$NON-NLS-1$
+				ExecutionEnvironmentDescription.CLASS_LIB_LEVEL, "JavaSE-17")); //$NON-NLS-1$
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline(name, ee, null);
+		List<IApiComponent> components = new ArrayList<>();
+		for (String bundle : bundles) {
+			File file = new File(bundle);
+			if (!file.exists()) {
+				throw new IllegalArgumentException("Bundle does not exist: " + file.getAbsolutePath()); //$NON-NLS-1$
+			}
+			IApiComponent component = ApiModelFactory.newApiComponent(baseline, file.getAbsolutePath());
+			if (component != null) {
+				components.add(component);
+			}
+		}
+		baseline.addApiComponents(components.toArray(new IApiComponent[components.size()]));
+		return baseline;
+	}
+
+	/**
+	 * Returns the component of the baseline created for the given bundle.
+	 *
+	 * @param baseline the baseline
+	 * @param bundle the path of the bundle the component was created for
+	 * @return the component
+	 */
+	static IApiComponent getComponent(IApiBaseline baseline, String bundle) {
+		String location = new File(bundle).getAbsolutePath();
+		for (IApiComponent component : baseline.getApiComponents()) {
+			if (location.equals(component.getLocation())) {
+				return component;
+			}
+		}
+		throw new IllegalArgumentException("No component for bundle: " + location); //$NON-NLS-1$
+	}
+
+	/**
+	 * Collects all type roots of the given component.
+	 *
+	 * @param component the component
+	 * @return the type roots in the order they are visited
+	 * @throws CoreException if the component cannot be read
+	 */
+	static List<IApiTypeRoot> collectTypeRoots(IApiComponent component) throws CoreException {
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				roots.add(typeroot);
+			}
+		});
+		return roots;
+	}
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the JMH benchmarks, writing the results as JSON to
+ * <code>target/jmh-result.json</code> unless a result format or file is given
+ * on the command line. The JSON results can be compared between runs to catch
+ * regressions.
+ */
+public final class BenchmarkMain {
+
+	static final String RESULT_FILE = "target/jmh-result.json"; //$NON-NLS-1$
+
+	private BenchmarkMain() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		List<String> arguments = new ArrayList<>(Arrays.asList(args));
+		if (!arguments.contains("-rf") && !arguments.contains("-rff")) { //$NON-NLS-1$ //$NON-NLS-2$
+			new File(RESULT_FILE).getAbsoluteFile().getParentFile().mkdirs();
+			arguments.addAll(List.of("-rf", "json", "-rff", RESULT_FILE)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		org.openjdk.jmh.Main.main(arguments.toArray(new String[arguments.size()]));
+	}
+}
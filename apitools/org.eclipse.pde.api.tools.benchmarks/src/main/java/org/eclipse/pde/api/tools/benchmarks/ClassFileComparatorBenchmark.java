@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link ClassFileComparator} comparing the class files of two
+ * versions of a bundle. Only the types present in both versions are compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ClassFileComparatorBenchmark {
+
+	@Param("target/bundles/baseline/org.eclipse.jdt.core.jar")
+	public String reference;
+
+	@Param("target/bundles/org.eclipse.jdt.core.jar")
+	public String bundle;
+
+	@Param({ "API", "ALL" })
+	public String visibility;
+
+	private IApiBaseline fReferenceBaseline;
+	private IApiBaseline fBaseline;
+	private IApiComponent fReferenceComponent;
+	private IApiComponent fComponent;
+	private final List<IApiTypeRoot> fReferenceRoots = new ArrayList<>();
+	private final List<IApiTypeRoot> fRoots = new ArrayList<>();
+	private int fVisibility;
+
+	@Setup(Level.Trial)
+	public void createBaselines() throws CoreException {
+		fReferenceBaseline = BenchmarkBaselines.createBaseline("reference", reference); //$NON-NLS-1$
+		fBaseline = BenchmarkBaselines.createBaseline("benchmark", bundle); //$NON-NLS-1$
+		fReferenceComponent = BenchmarkBaselines.getComponent(fReferenceBaseline, reference);
+		fComponent = BenchmarkBaselines.getComponent(fBaseline, bundle);
+		for (IApiTypeRoot root : BenchmarkBaselines.collectTypeRoots(fComponent)) {
+			IApiTypeRoot referenceRoot = fReferenceComponent.findTypeRoot(root.getTypeName());
+			if (referenceRoot != null) {
+				fReferenceRoots.add(referenceRoot);
+				fRoots.add(root);
+			}
+		}
+		fVisibility = "ALL".equals(visibility) ? VisibilityModifiers.ALL_VISIBILITIES : VisibilityModifiers.API; //$NON-NLS-1$
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeBaselines() {
+		fReferenceBaseline.dispose();
+		fBaseline.dispose();
+	}
+
+	@Benchmark
+	public void compare(Blackhole blackhole) throws CoreException {
+		for (int i = 0, max = fRoots.size(); i < max; i++) {
+			ClassFileComparator comparator = new ClassFileComparator(fReferenceRoots.get(i), fRoots.get(i), fReferenceComponent, fComponent, fReferenceBaseline, fBaseline, fVisibility);
+			blackhole.consume(comparator.getDelta());
+		}
+	}
+}
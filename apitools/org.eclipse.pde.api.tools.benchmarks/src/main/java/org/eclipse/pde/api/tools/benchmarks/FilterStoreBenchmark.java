@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.FilterStore;
+import org.eclipse.pde.api.tools.internal.model.BundleComponent;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the problem filter matching of {@link FilterStore#isFiltered(IApiProblem)}
+ * with an illegal reference problem for each type of a bundle, a
+ * <code>filtered</code> share of them being filtered. The workspace
+ * <code>ApiFilterStore</code> needs resources, it uses the same matching for
+ * the filters of a resource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FilterStoreBenchmark {
+
+	@Param("target/bundles/org.eclipse.jdt.core.jar")
+	public String bundle;
+
+	/**
+	 * Percentage of the problems that are filtered
+	 */
+	@Param({ "10", "50" })
+	public int filtered;
+
+	private IApiBaseline fBaseline;
+	private FilterStore fStore;
+	private final List<IApiProblem> fProblems = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void createFilterStore() throws CoreException {
+		fBaseline = BenchmarkBaselines.createBaseline("benchmark", bundle); //$NON-NLS-1$
+		BundleComponent component = (BundleComponent) BenchmarkBaselines.getComponent(fBaseline, bundle);
+		List<IApiProblem> filters = new ArrayList<>();
+		int index = 0;
+		for (IApiTypeRoot root : BenchmarkBaselines.collectTypeRoots(component)) {
+			String typeName = root.getTypeName();
+			IApiProblem problem = ApiProblemFactory.newApiUsageProblem(typeName.replace('.', '/') + ".java", typeName, new String[] { //$NON-NLS-1$
+					Signatures.getSimpleTypeName(typeName), "internal()" }, null, null, -1, -1, -1, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_REFERENCE); //$NON-NLS-1$
+			fProblems.add(problem);
+			if (index++ % 100 < filtered) {
+				filters.add(problem);
+			}
+		}
+		fStore = new FilterStore(component);
+		fStore.addFiltersFor(filters.toArray(new IApiProblem[filters.size()]));
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeBaseline() {
+		fBaseline.dispose();
+	}
+
+	@Benchmark
+	public void isFiltered(Blackhole blackhole) {
+		for (IApiProblem problem : fProblems) {
+			blackhole.consume(fStore.isFiltered(problem));
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceExtractor;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.objectweb.asm.ClassReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link ReferenceExtractor} extracting all references of the
+ * class files of a bundle, the way {@link IApiType#extractReferences(int, org.eclipse.core.runtime.IProgressMonitor)}
+ * does. The type structures and class files are read once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReferenceExtractorBenchmark {
+
+	@Param("target/bundles/org.eclipse.jdt.core.jar")
+	public String bundle;
+
+	private IApiBaseline fBaseline;
+	private List<IApiType> fTypes;
+	private List<byte[]> fContents;
+
+	@Setup(Level.Trial)
+	public void createBaseline() throws CoreException {
+		fBaseline = BenchmarkBaselines.createBaseline("benchmark", bundle); //$NON-NLS-1$
+		List<IApiTypeRoot> roots = BenchmarkBaselines.collectTypeRoots(BenchmarkBaselines.getComponent(fBaseline, bundle));
+		fTypes = new ArrayList<>(roots.size());
+		fContents = new ArrayList<>(roots.size());
+		for (IApiTypeRoot root : roots) {
+			IApiType type = root.getStructure();
+			if (type != null) {
+				fTypes.add(type);
+				fContents.add(((AbstractApiTypeRoot) root).getContents());
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeBaseline() {
+		fBaseline.dispose();
+	}
+
+	@Benchmark
+	public void extractReferences(Blackhole blackhole) {
+		for (int i = 0, max = fTypes.size(); i < max; i++) {
+			Set<Reference> references = new HashSet<>();
+			ReferenceExtractor extractor = new ReferenceExtractor(fTypes.get(i), references, IReference.MASK_REF_ALL);
+			new ClassReader(fContents.get(i)).accept(extractor, ClassReader.SKIP_FRAMES);
+			blackhole.consume(references);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ReferenceResolver#resolveReferences(List, int)} resolving all
+ * references of a bundle, serially and in parallel. The references are
+ * extracted again before each iteration since resolved references are not
+ * resolved twice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReferenceResolverBenchmark {
+
+	@Param("target/bundles/org.eclipse.jdt.core.jar")
+	public String bundle;
+
+	@Param({ "1", "2", "4", "8" })
+	public int parallelism;
+
+	private IApiBaseline fBaseline;
+	private List<IApiTypeRoot> fTypeRoots;
+	private List<IReference> fReferences;
+
+	@Setup(Level.Trial)
+	public void createBaseline() throws CoreException {
+		fBaseline = BenchmarkBaselines.createBaseline("benchmark", bundle); //$NON-NLS-1$
+		fTypeRoots = BenchmarkBaselines.collectTypeRoots(BenchmarkBaselines.getComponent(fBaseline, bundle));
+	}
+
+	@Setup(Level.Iteration)
+	public void extractReferences() throws CoreException {
+		fReferences = new ArrayList<>();
+		for (IApiTypeRoot root : fTypeRoots) {
+			IApiType type = root.getStructure();
+			if (type != null) {
+				fReferences.addAll(type.extractReferences(IReference.MASK_REF_ALL, null));
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeBaseline() {
+		fBaseline.dispose();
+	}
+
+	@Benchmark
+	public List<IReference> resolveReferences() throws CoreException {
+		ReferenceResolver.resolveReferences(fReferences, parallelism);
+		return fReferences;
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link ApiBaseline#resolvePackage(IApiComponent, String)} for the
+ * packages of all types referenced by a bundle, with the package cache of the
+ * baseline filled or cleared before each lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ResolvePackageBenchmark {
+
+	@Param("target/bundles/org.eclipse.jdt.core.jar")
+	public String bundle;
+
+	@Param({ "true", "false" })
+	public boolean cached;
+
+	private ApiBaseline fBaseline;
+	private IApiComponent fComponent;
+	private List<String> fPackageNames;
+
+	@Setup(Level.Trial)
+	public void createBaseline() throws CoreException {
+		fBaseline = (ApiBaseline) BenchmarkBaselines.createBaseline("benchmark", bundle); //$NON-NLS-1$
+		fComponent = BenchmarkBaselines.getComponent(fBaseline, bundle);
+		Set<String> packageNames = new LinkedHashSet<>();
+		for (IApiTypeRoot root : BenchmarkBaselines.collectTypeRoots(fComponent)) {
+			IApiType type = root.getStructure();
+			if (type != null) {
+				for (IReference reference : type.extractReferences(IReference.MASK_REF_ALL, null)) {
+					packageNames.add(Signatures.getPackageName(reference.getReferencedTypeName()));
+				}
+			}
+		}
+		fPackageNames = new ArrayList<>(packageNames);
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeBaseline() {
+		fBaseline.dispose();
+	}
+
+	@Benchmark
+	public void resolvePackages(Blackhole blackhole) throws CoreException {
+		for (String packageName : fPackageNames) {
+			if (!cached) {
+				fBaseline.clearPackage(packageName);
+			}
+			blackhole.consume(fBaseline.resolvePackage(fComponent, packageName));
+		}
+	}
+}
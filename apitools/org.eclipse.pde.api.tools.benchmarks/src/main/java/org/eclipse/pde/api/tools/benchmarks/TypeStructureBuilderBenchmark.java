@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link TypeStructureBuilder#buildTypeStructure(byte[], IApiComponent, IApiTypeRoot)}
+ * building the structure of all class files of a bundle. The class files are
+ * read once so that only the parsing is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TypeStructureBuilderBenchmark {
+
+	@Param("target/bundles/org.eclipse.jdt.core.jar")
+	public String bundle;
+
+	private IApiBaseline fBaseline;
+	private IApiComponent fComponent;
+	private List<IApiTypeRoot> fTypeRoots;
+	private List<byte[]> fContents;
+
+	@Setup(Level.Trial)
+	public void createBaseline() throws CoreException {
+		fBaseline = BenchmarkBaselines.createBaseline("benchmark", bundle); //$NON-NLS-1$
+		fComponent = BenchmarkBaselines.getComponent(fBaseline, bundle);
+		fTypeRoots = BenchmarkBaselines.collectTypeRoots(fComponent);
+		fContents = new ArrayList<>(fTypeRoots.size());
+		for (IApiTypeRoot root : fTypeRoots) {
+			fContents.add(((AbstractApiTypeRoot) root).getContents());
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeBaseline() {
+		fBaseline.dispose();
+	}
+
+	@Benchmark
+	public void buildTypeStructures(Blackhole blackhole) {
+		for (int i = 0, max = fTypeRoots.size(); i < max; i++) {
+			IApiType type = TypeStructureBuilder.buildTypeStructure(fContents.get(i), fComponent, fTypeRoots.get(i));
+			blackhole.consume(type);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisScheduler;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the scheduling of the API analysis jobs by {@link ApiAnalysisScheduler}
+ */
+public class ApiAnalysisSchedulerTests {
+
+	private static final long TIMEOUT = 10000;
+
+	private final ApiAnalysisBuilder fBuilder = new ApiAnalysisBuilder();
+	private final List<String> fStarted = Collections.synchronizedList(new ArrayList<>());
+	private final AtomicInteger fRunning = new AtomicInteger();
+	private final AtomicInteger fMaxRunning = new AtomicInteger();
+	private final CountDownLatch fRelease = new CountDownLatch(1);
+	private final List<TestJob> fJobs = new ArrayList<>();
+
+	/**
+	 * Analysis job of a project that does no analysis, but waits until the
+	 * test releases it or the job is cancelled
+	 */
+	class TestJob extends ApiAnalysisJob {
+
+		final String fName;
+		volatile boolean fCancelled = false;
+
+		TestJob(String name, String... prerequisites) {
+			fBuilder.super(name, project(name), false, null, projects(prerequisites));
+			fName = name;
+			fJobs.add(this);
+		}
+
+		@Override
+		public IStatus run(IProgressMonitor monitor) {
+			fMaxRunning.accumulateAndGet(fRunning.incrementAndGet(), Math::max);
+			fStarted.add(fName);
+			try {
+				while (!fRelease.await(10, TimeUnit.MILLISECONDS)) {
+					if (monitor.isCanceled()) {
+						fCancelled = true;
+						return Status.CANCEL_STATUS;
+					}
+				}
+				return Status.OK_STATUS;
+			} catch (InterruptedException e) {
+				return Status.CANCEL_STATUS;
+			} finally {
+				fRunning.decrementAndGet();
+			}
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fRelease.countDown();
+		for (TestJob job : fJobs) {
+			job.cancel();
+			job.join(TIMEOUT, null);
+		}
+	}
+
+	static IProject project(String name) {
+		return ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+	}
+
+	static IProject[] projects(String... names) {
+		IProject[] projects = new IProject[names.length];
+		for (int i = 0; i < names.length; i++) {
+			projects[i] = project(names[i]);
+		}
+		return projects;
+	}
+
+	static void waitFor(String message, BooleanSupplier condition) throws InterruptedException {
+		long end = System.currentTimeMillis() + TIMEOUT;
+		while (!condition.getAsBoolean()) {
+			assertTrue(message, System.currentTimeMillis() < end);
+			Thread.sleep(10);
+		}
+	}
+
+	/**
+	 * Tests that no more jobs than workers are running at the same time and
+	 * that the other jobs are started once a worker is free
+	 */
+	@Test
+	public void testWorkerLimit() throws Exception {
+		ApiAnalysisScheduler scheduler = new ApiAnalysisScheduler(2);
+		for (String name : new String[] { "a", "b", "c", "d", "e" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			scheduler.submit(new TestJob(name));
+		}
+		waitFor("two jobs must be started", () -> fStarted.size() == 2); //$NON-NLS-1$
+		assertEquals("the other jobs must wait for a worker", 3, scheduler.getPendingCount()); //$NON-NLS-1$
+		Thread.sleep(500);
+		assertEquals("no other job may start while the workers are busy", 2, fStarted.size()); //$NON-NLS-1$
+
+		fRelease.countDown();
+		waitFor("all jobs must be analyzed", () -> scheduler.getTimings().size() == 5); //$NON-NLS-1$
+		assertEquals("at most two jobs may run at the same time", 2, fMaxRunning.get()); //$NON-NLS-1$
+		assertEquals(0, scheduler.getPendingCount());
+	}
+
+	/**
+	 * Tests that a project is analyzed after the projects it requires, even if
+	 * its job was submitted first
+	 */
+	@Test
+	public void testDependencyOrder() throws Exception {
+		ApiAnalysisScheduler scheduler = new ApiAnalysisScheduler(4);
+		scheduler.submit(new TestJob("a")); //$NON-NLS-1$
+		waitFor("the first job must be started", () -> fStarted.size() == 1); //$NON-NLS-1$
+		scheduler.submit(new TestJob("c", "a", "b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		scheduler.submit(new TestJob("b", "a")); //$NON-NLS-1$ //$NON-NLS-2$
+		scheduler.submit(new TestJob("d")); //$NON-NLS-1$
+		waitFor("the independent job must be started", () -> fStarted.size() == 2); //$NON-NLS-1$
+		assertEquals("the dependent jobs must wait for their prerequisites", 2, scheduler.getPendingCount()); //$NON-NLS-1$
+
+		fRelease.countDown();
+		waitFor("all jobs must be analyzed", () -> scheduler.getTimings().size() == 4); //$NON-NLS-1$
+		assertEquals(List.of("a", "d", "b", "c"), fStarted); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Tests that the pending jobs are discarded and the running ones are
+	 * cancelled
+	 */
+	@Test
+	public void testCancelAll() throws Exception {
+		ApiAnalysisScheduler scheduler = new ApiAnalysisScheduler(1);
+		TestJob running = new TestJob("a"); //$NON-NLS-1$
+		scheduler.submit(running);
+		scheduler.submit(new TestJob("b")); //$NON-NLS-1$
+		scheduler.submit(new TestJob("c")); //$NON-NLS-1$
+		waitFor("the first job must be started", () -> fStarted.size() == 1); //$NON-NLS-1$
+		assertEquals(2, scheduler.getPendingCount());
+
+		scheduler.cancelAll();
+		assertEquals("the pending jobs must be discarded", 0, scheduler.getPendingCount()); //$NON-NLS-1$
+		running.join(TIMEOUT, null);
+		assertTrue("the running job must be cancelled", running.fCancelled); //$NON-NLS-1$
+		Thread.sleep(500);
+		assertEquals("the discarded jobs must not run", List.of("a"), fStarted); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
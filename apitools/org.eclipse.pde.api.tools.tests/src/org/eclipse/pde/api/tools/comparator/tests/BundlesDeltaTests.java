@@ -578,4 +578,29 @@ public class BundlesDeltaTests extends DeltaTestSetup {
 		assertNotNull("No delta", delta); //$NON-NLS-1$
 		assertFalse("Equals to NO_DELTA", delta == ApiComparator.NO_DELTA); //$NON-NLS-1$
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests that comparing baselines in parallel returns the same delta as the
+	 * sequential comparison
+	 */
+	@Test
+	public void test17() {
+		deployBundles("test5"); //$NON-NLS-1$
+		IApiBaseline beforeState = getBeforeState();
+		IApiBaseline afterState = getAfterState();
+		IDelta serialDelta = ApiComparator.compare(beforeState, afterState, VisibilityModifiers.ALL_VISIBILITIES, true, null);
+		IDelta parallelDelta = ApiComparator.compare(beforeState, afterState, VisibilityModifiers.ALL_VISIBILITIES, true, 4, null);
+		assertNotNull("No delta", serialDelta); //$NON-NLS-1$
+		assertNotNull("No delta", parallelDelta); //$NON-NLS-1$
+		IDelta[] serialChildren = serialDelta.getChildren();
+		IDelta[] parallelChildren = parallelDelta.getChildren();
+		assertEquals("Wrong size", serialChildren.length, parallelChildren.length); //$NON-NLS-1$
+		for (int i = 0; i < serialChildren.length; i++) {
+			assertEquals("Wrong kind", serialChildren[i].getKind(), parallelChildren[i].getKind()); //$NON-NLS-1$
+			assertEquals("Wrong flag", serialChildren[i].getFlags(), parallelChildren[i].getFlags()); //$NON-NLS-1$
+			assertEquals("Wrong element type", serialChildren[i].getElementType(), parallelChildren[i].getElementType()); //$NON-NLS-1$
+			assertEquals("Wrong key", serialChildren[i].getKey(), parallelChildren[i].getKey()); //$NON-NLS-1$
+			assertEquals("Wrong component", serialChildren[i].getComponentVersionId(), parallelChildren[i].getComponentVersionId()); //$NON-NLS-1$
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.comparator.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.HashMap;
+
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.builder.DeltaCache;
+import org.eclipse.pde.api.tools.internal.comparator.Delta;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.Test;
+
+/**
+ * Tests the cache of the deltas between the baseline and the workspace
+ * version of types kept in the API build state
+ */
+public class DeltaCacheTests extends DeltaTestSetup {
+
+	private static final String TYPE_NAME = "X"; //$NON-NLS-1$
+
+	@Override
+	public String getTestRoot() {
+		return "class"; //$NON-NLS-1$
+	}
+
+	private static DeltaCache writeAndRead(DeltaCache cache) throws Exception {
+		BuildState state = new BuildState();
+		state.setDeltaCache(cache);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			BuildState.write(state, out);
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return BuildState.read(in).getDeltaCache();
+		}
+	}
+
+	private static void assertDeltaEquals(IDelta expected, IDelta actual) {
+		if (expected == ApiComparator.NO_DELTA) {
+			assertSame(expected, actual);
+			return;
+		}
+		assertEquals(expected.getComponentVersionId(), actual.getComponentVersionId());
+		assertEquals(expected.getElementType(), actual.getElementType());
+		assertEquals(expected.getKind(), actual.getKind());
+		assertEquals(expected.getFlags(), actual.getFlags());
+		assertEquals(expected.getCurrentRestrictions(), actual.getCurrentRestrictions());
+		assertEquals(expected.getPreviousRestrictions(), actual.getPreviousRestrictions());
+		assertEquals(expected.getOldModifiers(), actual.getOldModifiers());
+		assertEquals(expected.getNewModifiers(), actual.getNewModifiers());
+		assertEquals(expected.getTypeName(), actual.getTypeName());
+		assertEquals(expected.getKey(), actual.getKey());
+		assertArrayEquals(expected.getArguments(), actual.getArguments());
+		IDelta[] children = expected.getChildren();
+		IDelta[] actualChildren = actual.getChildren();
+		assertEquals(children.length, actualChildren.length);
+		for (int i = 0; i < children.length; i++) {
+			assertDeltaEquals(children[i], actualChildren[i]);
+		}
+	}
+
+	/**
+	 * Tests that a delta tree written with the build state is read back with
+	 * all its attributes, including the root delta without a type name
+	 */
+	@Test
+	public void testWriteReadDelta() throws Exception {
+		Delta root = new Delta();
+		Delta type = new Delta("component (1.0.0)", IDelta.CLASS_ELEMENT_TYPE, IDelta.CHANGED, IDelta.RESTRICTIONS, RestrictionModifiers.NO_EXTEND, RestrictionModifiers.NO_RESTRICTIONS, 1, 17, "p.X", "p.X", new String[] { "p.X" }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		type.add(new Delta(null, IDelta.CLASS_ELEMENT_TYPE, IDelta.REMOVED, IDelta.METHOD, RestrictionModifiers.NO_RESTRICTIONS, 0, 1, 0, "p.X", "foo()V", null)); //$NON-NLS-1$ //$NON-NLS-2$
+		root.add(type);
+		DeltaCache cache = new DeltaCache();
+		cache.putDelta("p.X", "reference (1.0.0)", "component (1.0.0)", 1L, 2L, root); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		cache.putDelta("p.Y", "reference (1.0.0)", "component (1.0.0)", 3L, 3L, ApiComparator.NO_DELTA); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		DeltaCache read = writeAndRead(cache);
+
+		assertEquals(2, read.size());
+		IDelta readRoot = read.getDelta("p.X", "reference (1.0.0)", "component (1.0.0)", 1L, 2L); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNotNull(readRoot);
+		assertNull(readRoot.getTypeName());
+		assertDeltaEquals(root, readRoot);
+		assertSame(ApiComparator.NO_DELTA, read.getDelta("p.Y", "reference (1.0.0)", "component (1.0.0)", 3L, 3L)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that a delta computed by the class file comparator survives the
+	 * build state
+	 */
+	@Test
+	public void testWriteReadComparedDelta() throws Exception {
+		deployBundles("test1"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		IApiComponent reference = before.getApiComponent(BUNDLE_NAME);
+		IApiComponent component = after.getApiComponent(BUNDLE_NAME);
+		IApiTypeRoot classFile = component.findTypeRoot(TYPE_NAME);
+		DeltaCache cache = new DeltaCache();
+		IDelta delta = cache.compare(classFile, TYPE_NAME, reference, component, null, new HashMap<>(), null);
+		assertNotNull(delta);
+		assertNull(delta.getTypeName());
+
+		DeltaCache read = writeAndRead(cache);
+		IDelta readDelta = read.compare(classFile, TYPE_NAME, reference, component, null, new HashMap<>(), null);
+		assertNotSame(delta, readDelta);
+		assertDeltaEquals(delta, readDelta);
+		// served from the cache read back, not compared again
+		assertSame(readDelta, read.compare(classFile, TYPE_NAME, reference, component, null, new HashMap<>(), null));
+	}
+
+	/**
+	 * Tests that the delta of an unchanged type is taken from the cache while
+	 * a changed type is compared again
+	 */
+	@Test
+	public void testCompareHitAndFingerprintMismatch() throws Exception {
+		deployBundles("test1"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		IApiComponent reference = before.getApiComponent(BUNDLE_NAME);
+		IApiComponent component = after.getApiComponent(BUNDLE_NAME);
+		IApiTypeRoot classFile = component.findTypeRoot(TYPE_NAME);
+		IApiTypeRoot unchangedClassFile = reference.findTypeRoot(TYPE_NAME);
+		assertNotEquals(DeltaCache.fingerprint(classFile.getStructure(), new HashMap<>()), DeltaCache.fingerprint(unchangedClassFile.getStructure(), new HashMap<>()));
+
+		DeltaCache cache = new DeltaCache();
+		IDelta delta = cache.compare(classFile, TYPE_NAME, reference, component, null, new HashMap<>(), null);
+		assertNotSame(ApiComparator.NO_DELTA, delta);
+		assertSame(delta, cache.compare(classFile, TYPE_NAME, reference, component, null, new HashMap<>(), null));
+
+		// another version of the type has another fingerprint
+		IDelta changed = cache.compare(unchangedClassFile, TYPE_NAME, reference, component, null, new HashMap<>(), null);
+		assertSame(ApiComparator.NO_DELTA, changed);
+		assertEquals(1, cache.size());
+		assertSame(changed, cache.compare(unchangedClassFile, TYPE_NAME, reference, component, null, new HashMap<>(), null));
+	}
+
+	/**
+	 * Tests that a cache created for a full build only keeps the deltas of the
+	 * types compared again
+	 */
+	@Test
+	public void testFullBuildDropsTypesNotCompared() throws Exception {
+		DeltaCache previous = new DeltaCache();
+		previous.putDelta("p.X", "reference (1.0.0)", "component (1.0.0)", 1L, 2L, ApiComparator.NO_DELTA); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		previous.putDelta("p.Deleted", "reference (1.0.0)", "component (1.0.0)", 3L, 4L, ApiComparator.NO_DELTA); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		DeltaCache cache = new DeltaCache(previous);
+		assertSame(ApiComparator.NO_DELTA, cache.getDelta("p.X", "reference (1.0.0)", "component (1.0.0)", 1L, 2L)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		DeltaCache read = writeAndRead(cache);
+		assertEquals(1, read.size());
+		assertSame(ApiComparator.NO_DELTA, read.getDelta("p.X", "reference (1.0.0)", "component (1.0.0)", 1L, 2L)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNull(read.getDelta("p.Deleted", "reference (1.0.0)", "component (1.0.0)", 3L, 4L)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
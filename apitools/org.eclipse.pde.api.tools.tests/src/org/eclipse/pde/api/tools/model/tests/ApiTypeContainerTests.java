@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,23 +13,37 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureIndex;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.junit.Test;
@@ -227,4 +241,210 @@ public class ApiTypeContainerTests {
 		assertEquals("Visited wrong number of packages", expectedPkgOrder.size(), visit.size()); //$NON-NLS-1$
 		assertEquals("Visit order incorrect", expectedPkgOrder, visit);		 //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that type structures restored from a persisted index are the same
+	 * as the ones built from the class files of an archive.
+	 */
+	@Test
+	public void testArchiveTypeStructureIndex() throws CoreException, IOException {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		Path folder = Files.createTempDirectory("typeStructures"); //$NON-NLS-1$
+		try {
+			final Map<String, String> expected = new HashMap<>();
+			TypeStructureIndex index = TypeStructureIndex.open(path.toFile(), folder);
+			assertNotNull("Index should be created", index); //$NON-NLS-1$
+			IApiTypeContainer container = buildArchiveContainer();
+			container.accept(new ApiTypeContainerVisitor() {
+				@Override
+				public void visit(String packageName, IApiTypeRoot typeRoot) {
+					try {
+						IApiType type = typeRoot.getStructure();
+						expected.put(type.getName(), type.toString());
+						index.addType((ApiType) type);
+					} catch (CoreException e) {
+						fail(e.getMessage());
+					}
+				}
+			});
+			index.save();
+
+			TypeStructureIndex restored = TypeStructureIndex.open(path.toFile(), folder);
+			assertEquals("Wrong number of indexed types", expected.size(), restored.size()); //$NON-NLS-1$
+			for (Map.Entry<String, String> entry : expected.entrySet()) {
+				IApiType type = restored.getType(entry.getKey(), null, container.findTypeRoot(entry.getKey()));
+				assertNotNull("Missing indexed type " + entry.getKey(), type); //$NON-NLS-1$
+				assertEquals("Wrong indexed type", entry.getValue(), type.toString()); //$NON-NLS-1$
+			}
+		} finally {
+			TestSuiteHelper.delete(folder.toFile());
+		}
+	}
+
+	/**
+	 * Tests that the index of an archive is discarded when the archive is
+	 * replaced.
+	 */
+	@Test
+	public void testArchiveTypeStructureIndexOfChangedArchive() throws CoreException, IOException {
+		File sample = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		Path temp = Files.createTempDirectory("typeStructures"); //$NON-NLS-1$
+		try {
+			List<ApiType> types = getTypes(buildArchiveContainer());
+			File archive = Files.copy(sample.toPath(), temp.resolve("sample.jar")).toFile(); //$NON-NLS-1$
+			Path folder = Files.createDirectory(temp.resolve("indexes")); //$NON-NLS-1$
+			TypeStructureIndex index = TypeStructureIndex.open(archive, folder);
+			index.addType(types.get(0));
+			index.save();
+			assertEquals("The index of the unchanged archive must be kept", 1, TypeStructureIndex.open(archive, folder).size()); //$NON-NLS-1$
+
+			assertTrue("The time stamp must be changed", archive.setLastModified(archive.lastModified() - 10000)); //$NON-NLS-1$
+			assertEquals("The index of the changed archive must be discarded", 0, TypeStructureIndex.open(archive, folder).size()); //$NON-NLS-1$
+		} finally {
+			TestSuiteHelper.delete(temp.toFile());
+		}
+	}
+
+	private static List<ApiType> getTypes(IApiTypeContainer container) throws CoreException {
+		final List<ApiType> types = new ArrayList<>();
+		container.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeRoot) {
+				try {
+					types.add((ApiType) typeRoot.getStructure());
+				} catch (CoreException e) {
+					fail(e.getMessage());
+				}
+			}
+		});
+		return types;
+	}
+
+	/**
+	 * Tests that an index saved again while its file is open keeps the type
+	 * structures of both saves.
+	 */
+	@Test
+	public void testArchiveTypeStructureIndexSavedTwice() throws CoreException, IOException {
+		File archive = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		Path folder = Files.createTempDirectory("typeStructures"); //$NON-NLS-1$
+		try {
+			IApiTypeContainer container = buildArchiveContainer();
+			List<ApiType> types = getTypes(container);
+			assertTrue("The archive must contain several types", types.size() > 1); //$NON-NLS-1$
+			TypeStructureIndex index = TypeStructureIndex.open(archive, folder);
+			index.addType(types.get(0));
+			index.save();
+			for (ApiType type : types) {
+				index.addType(type);
+			}
+			index.save();
+			assertEquals("Wrong number of indexed types", types.size(), index.size()); //$NON-NLS-1$
+
+			TypeStructureIndex restored = TypeStructureIndex.open(archive, folder);
+			assertEquals("Wrong number of indexed types", types.size(), restored.size()); //$NON-NLS-1$
+			for (ApiType type : types) {
+				IApiType indexed = restored.getType(type.getName(), null, container.findTypeRoot(type.getName()));
+				assertNotNull("Missing indexed type " + type.getName(), indexed); //$NON-NLS-1$
+				assertEquals("Wrong indexed type", type.toString(), indexed.toString()); //$NON-NLS-1$
+			}
+			try (Stream<Path> files = Files.list(folder)) {
+				assertEquals("The temporary file must be removed", 1, files.count()); //$NON-NLS-1$
+			}
+		} finally {
+			TestSuiteHelper.delete(folder.toFile());
+		}
+	}
+
+	/**
+	 * Tests that purging the index folder deletes the indexes of archives that
+	 * no longer exist, unknown index files and temporary files, but keeps the
+	 * indexes of existing archives.
+	 */
+	@Test
+	public void testPurgeTypeStructureIndexes() throws CoreException, IOException {
+		File archive = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		Path temp = Files.createTempDirectory("typeStructures"); //$NON-NLS-1$
+		try {
+			List<ApiType> types = getTypes(buildArchiveContainer());
+			Path removedArchive = Files.copy(archive.toPath(), temp.resolve("removed.jar")); //$NON-NLS-1$
+			// the indexes are saved in one folder and purged in another one
+			// since saved indexes stay open
+			Path saved = Files.createDirectory(temp.resolve("saved")); //$NON-NLS-1$
+			Path folder = Files.createDirectory(temp.resolve("indexes")); //$NON-NLS-1$
+			for (File indexed : new File[] { archive, removedArchive.toFile() }) {
+				TypeStructureIndex index = TypeStructureIndex.open(indexed, saved);
+				index.addType(types.get(0));
+				index.save();
+			}
+			try (Stream<Path> files = Files.list(saved)) {
+				for (Path file : files.toList()) {
+					Files.copy(file, folder.resolve(file.getFileName()));
+				}
+			}
+			try (Stream<Path> files = Files.list(folder)) {
+				assertEquals("There must be an index per archive", 2, files.count()); //$NON-NLS-1$
+			}
+			Files.delete(removedArchive);
+			Files.writeString(folder.resolve("unknown.idx"), "not an index"); //$NON-NLS-1$ //$NON-NLS-2$
+			Files.writeString(folder.resolve("index1.tmp"), "interrupted save"); //$NON-NLS-1$ //$NON-NLS-2$
+
+			TypeStructureIndex.purge(folder);
+			try (Stream<Path> files = Files.list(folder)) {
+				assertEquals("Only the index of the existing archive must be kept", 1, files.count()); //$NON-NLS-1$
+			}
+			TypeStructureIndex index = TypeStructureIndex.open(archive, folder);
+			assertEquals("The index of the existing archive must be kept", 1, index.size()); //$NON-NLS-1$
+		} finally {
+			TestSuiteHelper.delete(temp.toFile());
+		}
+	}
+
+	/**
+	 * Tests that the class files of an archive are served with the contents of
+	 * their zip entries.
+	 */
+	@Test
+	public void testArchiveContents() throws CoreException, IOException {
+		IApiTypeContainer container = buildArchiveContainer();
+		int count = 0;
+		try (ZipFile zip = new ZipFile(TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar").toFile())) { //$NON-NLS-1$ //$NON-NLS-2$
+			for (ZipEntry entry : zip.stream().toList()) {
+				String name = entry.getName();
+				if (name.endsWith(".class")) { //$NON-NLS-1$
+					String typeName = name.substring(0, name.length() - 6).replace('/', '.');
+					IApiTypeRoot root = container.findTypeRoot(typeName);
+					assertNotNull("Missing type " + typeName, root); //$NON-NLS-1$
+					try (InputStream input = zip.getInputStream(entry)) {
+						assertArrayEquals("Wrong contents of " + typeName, input.readAllBytes(), ((AbstractApiTypeRoot) root).getContents()); //$NON-NLS-1$
+					}
+					count++;
+				}
+			}
+		}
+		assertTrue("No class files in archive", count > 0); //$NON-NLS-1$
+		assertNull("Unexpected type", container.findTypeRoot("a.Missing")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("Unexpected type", container.findTypeRoot("missing.ClassA")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that the class files of a closed archive can still be found and
+	 * read.
+	 */
+	@Test
+	public void testArchiveContentsAfterClose() throws CoreException {
+		IApiTypeContainer container = buildArchiveContainer();
+		List<ApiType> types = getTypes(container);
+		assertTrue("No class files in archive", types.size() > 0); //$NON-NLS-1$
+		Map<String, byte[]> contents = new HashMap<>();
+		for (ApiType type : types) {
+			contents.put(type.getName(), ((AbstractApiTypeRoot) container.findTypeRoot(type.getName())).getContents());
+		}
+		container.close();
+		for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+			IApiTypeRoot root = container.findTypeRoot(entry.getKey());
+			assertNotNull("Missing type " + entry.getKey(), root); //$NON-NLS-1$
+			assertArrayEquals("Wrong contents of " + entry.getKey(), entry.getValue(), ((AbstractApiTypeRoot) root).getContents()); //$NON-NLS-1$
+		}
+	}
 }
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.reference.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.Test;
+
+/**
+ * Tests the resolution of references by {@link ReferenceResolver}
+ */
+public class ReferenceResolverTests {
+
+	private static final String[] JAVA_TYPES = new String[] {
+			"java.lang.Object", "java.lang.String", "java.lang.StringBuilder", "java.lang.Integer" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	/**
+	 * The number of missing methods referenced per type, more than the 256
+	 * elements a fork-join task of the resolver resolves without forking
+	 */
+	private static final int MISSING_METHODS = 300;
+
+	/**
+	 * Returns the types of the given component.
+	 */
+	private static List<IApiType> getTypes(IApiComponent component) throws CoreException {
+		List<IApiType> types = new ArrayList<>();
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeRoot) {
+				try {
+					types.add(typeRoot.getStructure());
+				} catch (CoreException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		});
+		return types;
+	}
+
+	/**
+	 * Creates references from the given member to the types, fields and
+	 * methods of the given types and to methods that do not exist. Every
+	 * reference is created twice, and every method is also referenced as an
+	 * overridden method.
+	 */
+	private static List<IReference> createReferences(IApiMember origin, List<IApiType> types) throws CoreException {
+		List<IReference> references = new ArrayList<>();
+		for (int copy = 0; copy < 2; copy++) {
+			for (IApiType type : types) {
+				String typeName = type.getName();
+				references.add(Reference.typeReference(origin, typeName, IReference.REF_PARAMETER));
+				for (IApiField field : type.getFields()) {
+					references.add(Reference.fieldReference(origin, typeName, field.getName(), IReference.REF_GETFIELD));
+				}
+				for (IApiMethod method : type.getMethods()) {
+					references.add(Reference.methodReference(origin, typeName, method.getName(), method.getSignature(), IReference.REF_VIRTUALMETHOD));
+					references.add(Reference.methodReference(origin, typeName, method.getName(), method.getSignature(), IReference.REF_OVERRIDE));
+				}
+				for (int i = 0; i < MISSING_METHODS; i++) {
+					references.add(Reference.methodReference(origin, typeName, "missing" + i, "()V", IReference.REF_VIRTUALMETHOD)); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+		return references;
+	}
+
+	private static List<String> getResolutions(List<IReference> references) {
+		List<String> resolutions = new ArrayList<>(references.size());
+		for (IReference reference : references) {
+			IApiMember resolved = reference.getResolvedReference();
+			resolutions.add(resolved == null ? null : resolved.getHandle().toString());
+		}
+		return resolutions;
+	}
+
+	/**
+	 * Tests that resolving more references than a fork-join task resolves
+	 * without forking gives the same resolutions in parallel as in the calling
+	 * thread
+	 */
+	@Test
+	public void testParallelResolutionMatchesSerial() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		IApiComponent component = baseline.getApiComponent("component.b"); //$NON-NLS-1$
+		assertNotNull(component);
+		List<IApiType> types = new ArrayList<>(getTypes(component));
+		IApiMember origin = types.get(0);
+		types.addAll(getTypes(baseline.getApiComponent("component.a"))); //$NON-NLS-1$
+		IApiComponent[] providers = baseline.resolvePackage(component, "java.lang"); //$NON-NLS-1$
+		for (String typeName : JAVA_TYPES) {
+			IApiTypeRoot typeRoot = providers[0].findTypeRoot(typeName);
+			assertNotNull(typeName, typeRoot);
+			types.add(typeRoot.getStructure());
+		}
+
+		List<IReference> serial = createReferences(origin, types);
+		List<IReference> parallel = createReferences(origin, types);
+		assertTrue("the unique references must be split across several tasks", types.size() > 1); //$NON-NLS-1$
+
+		ReferenceResolver.resolveReferences(serial, 1);
+		ReferenceResolver.resolveReferences(parallel, 4);
+
+		List<String> expected = getResolutions(serial);
+		assertTrue("some references must be resolved", expected.stream().anyMatch(r -> r != null)); //$NON-NLS-1$
+		assertTrue("some references must not be resolved", expected.contains(null)); //$NON-NLS-1$
+		assertEquals(expected, getResolutions(parallel));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
 
@@ -56,6 +58,9 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
@@ -64,9 +69,11 @@ import org.eclipse.pde.api.tools.internal.provisional.IApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.eclipse.pde.api.tools.tests.AbstractApiTest;
 import org.eclipse.pde.api.tools.tests.util.FileUtils;
@@ -849,6 +856,112 @@ public class ApiBaselineManagerTests extends AbstractApiTest {
 		assertTrue("unexported package must be private", VisibilityModifiers.isPrivate(annot.getVisibility())); //$NON-NLS-1$
 	}
 
+	/**
+	 * Returns the elements of the test project the persistence tests check:
+	 * the package <code>a.b.c</code>, the type <code>TestClass1</code> and its
+	 * method <code>foo()</code> and the field of <code>TestField9</code>
+	 */
+	private IElementDescriptor[] assertTaggedTestSources() throws Exception {
+		IJavaProject project = getTestingProject();
+		IPackageFragmentRoot root = project.findPackageFragmentRoot(IPath.fromOSString(project.getElementName()).append(ProjectUtils.SRC_FOLDER).makeAbsolute());
+		assertNotNull("the 'src' package fragment root must exist", root); //$NON-NLS-1$
+		assertTestSource(root, TESTING_PACKAGE, "TestClass1"); //$NON-NLS-1$
+		assertTestSource(root, TESTING_PACKAGE, "TestField9"); //$NON-NLS-1$
+		updateTagInSource((ICompilationUnit) project.findElement(IPath.fromOSString("a/b/c/TestClass1.java")), "foo", "()V", "@nooverride", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		updateTagInSource((ICompilationUnit) project.findElement(IPath.fromOSString("a/b/c/TestField9.java")), "field", null, "@noreference", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return new IElementDescriptor[] {
+				Factory.packageDescriptor(TESTING_PACKAGE),
+				Factory.typeDescriptor("a.b.c.TestClass1"), //$NON-NLS-1$
+				Factory.methodDescriptor("a.b.c.TestClass1", "foo", "()V"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				Factory.fieldDescriptor("a.b.c.TestField9", "field") }; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns a new description of the test project with the annotations of
+	 * the given elements scanned from the sources
+	 */
+	private ProjectApiDescription newScannedDescription(IElementDescriptor[] elements) {
+		ProjectApiDescription description = new ProjectApiDescription(getTestingProject());
+		IApiAnnotations pkg = description.resolveAnnotations(elements[0]);
+		assertNotNull("the annotations for a.b.c cannot be null", pkg); //$NON-NLS-1$
+		assertEquals("a.b.c must be API", VisibilityModifiers.API, pkg.getVisibility()); //$NON-NLS-1$
+		assertEquals("there must be a noinstantiate setting for TestClass1", RestrictionModifiers.NO_INSTANTIATE, //$NON-NLS-1$
+				description.resolveAnnotations(elements[1]).getRestrictions() & RestrictionModifiers.NO_INSTANTIATE);
+		assertEquals("there must be a nooverride setting for foo()", RestrictionModifiers.NO_OVERRIDE, //$NON-NLS-1$
+				description.resolveAnnotations(elements[2]).getRestrictions() & RestrictionModifiers.NO_OVERRIDE);
+		assertEquals("there must be a noreference setting for 'field'", RestrictionModifiers.NO_REFERENCE, //$NON-NLS-1$
+				description.resolveAnnotations(elements[3]).getRestrictions() & RestrictionModifiers.NO_REFERENCE);
+		return description;
+	}
+
+	/**
+	 * Asserts that the given elements have the same visibility and
+	 * restrictions in both descriptions
+	 */
+	private void assertSameAnnotations(IApiDescription expected, IApiDescription actual, IElementDescriptor[] elements) {
+		for (IElementDescriptor element : elements) {
+			IApiAnnotations annot = expected.resolveAnnotations(element);
+			IApiAnnotations restored = actual.resolveAnnotations(element);
+			assertNotNull("the restored annotations for " + element + " cannot be null", restored); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("the visibility of " + element + " must be restored", annot.getVisibility(), restored.getVisibility()); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("the restrictions of " + element + " must be restored", annot.getRestrictions(), restored.getRestrictions()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Tests that a project API description saved in the binary format is
+	 * restored with the annotations of its packages, types, methods and fields
+	 */
+	@Test
+	public void testSaveRestoreDescription() throws Exception {
+		IElementDescriptor[] elements = assertTaggedTestSources();
+		ProjectApiDescription description = newScannedDescription(elements);
+		Path dir = Files.createTempDirectory("apidescription"); //$NON-NLS-1$
+		try {
+			ApiDescriptionManager.getManager().saveDescription(description, dir);
+			assertTrue("the binary file must exist", Files.isRegularFile(dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME))); //$NON-NLS-1$
+			ProjectApiDescription restored = new ProjectApiDescription(getTestingProject());
+			assertTrue("the description must be restored", ApiDescriptionManager.getManager().restoreDescription(getTestingProject(), restored, dir)); //$NON-NLS-1$
+			assertEquals("the package time stamp must be restored", description.fPackageTimeStamp, restored.fPackageTimeStamp); //$NON-NLS-1$
+			assertSameAnnotations(description, restored, elements);
+		} finally {
+			FileUtils.delete(dir.toString());
+		}
+	}
+
+	/**
+	 * Tests that the XML file of older versions is read when the binary file
+	 * is corrupt
+	 */
+	@Test
+	public void testRestoreCorruptDescriptionFromXML() throws Exception {
+		assertRestoreFromXML(new byte[] { 0x41, 0x50, 0x49, 0x44, 0, 1, 0x7f });
+	}
+
+	/**
+	 * Tests that the XML file of older versions is read when the binary file
+	 * has another format version
+	 */
+	@Test
+	public void testRestoreOtherVersionDescriptionFromXML() throws Exception {
+		assertRestoreFromXML(new byte[] { 0x41, 0x50, 0x49, 0x44, 0x7f, 0x7f, 0, 0, 0, 0 });
+	}
+
+	private void assertRestoreFromXML(byte[] binary) throws Exception {
+		IElementDescriptor[] elements = assertTaggedTestSources();
+		ProjectApiDescription description = newScannedDescription(elements);
+		Path dir = Files.createTempDirectory("apidescription"); //$NON-NLS-1$
+		try {
+			Files.writeString(dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME), Util.serializeDocument(description.getXML()));
+			Files.write(dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME), binary);
+			ProjectApiDescription restored = new ProjectApiDescription(getTestingProject());
+			assertTrue("the description must be restored from the XML file", ApiDescriptionManager.getManager().restoreDescription(getTestingProject(), restored, dir)); //$NON-NLS-1$
+			assertSameAnnotations(description, restored, elements);
+		} finally {
+			FileUtils.delete(dir.toString());
+		}
+	}
+
 	/**
 	 * sets the given package name to be an Exported-Package
 	 */
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConcurrentLRUCache}
+ */
+public class ConcurrentLRUCacheTests {
+
+	/**
+	 * Tests that the least recently used entries are evicted first
+	 */
+	@Test
+	public void testEvictLeastRecentlyUsed() {
+		ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(3, 4);
+		cache.put("a", "a"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "b"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("c", "c"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("a should be cached", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("d", "d"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("b should have been evicted", cache.get("b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("a should be cached", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("c should be cached", cache.get("c")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("d should be cached", cache.get("d")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong eviction count", 1, cache.getStatistics().getEvictionCount()); //$NON-NLS-1$
+		assertEquals("Wrong miss count", 1, cache.getStatistics().getMissCount()); //$NON-NLS-1$
+		assertEquals("Wrong hit count", 4, cache.getStatistics().getHitCount()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the cache is bounded by the weight of its elements and
+	 * notifies evictions
+	 */
+	@Test
+	public void testWeightLimit() {
+		List<String> evicted = new ArrayList<>();
+		ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10, 4, String::length,
+				(key, value) -> evicted.add(key), new ConcurrentLRUCache.Statistics());
+		cache.put("a", "1234"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "1234"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong weight", 8, cache.getWeight()); //$NON-NLS-1$
+		cache.put("c", "123456"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong evicted entries", List.of("a"), evicted); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong weight", 10, cache.getWeight()); //$NON-NLS-1$
+		// an entry heavier than the limit is kept until the next insertion
+		cache.put("d", "12345678901"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong evicted entries", List.of("a", "b", "c"), evicted); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertNotNull("d should be cached", cache.get("d")); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.remove("d"); //$NON-NLS-1$
+		assertEquals("Removal is not an eviction", 3, evicted.size()); //$NON-NLS-1$
+		assertTrue("The cache should be empty", cache.isEmpty()); //$NON-NLS-1$
+		assertEquals("Wrong weight", 0, cache.getWeight()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests using the cache from several threads at the same time
+	 */
+	@Test
+	public void testConcurrentAccess() throws InterruptedException {
+		ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(100, 8);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			int offset = t * 1000;
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 1000; i++) {
+					Integer key = Integer.valueOf(offset + i);
+					cache.put(key, key);
+					cache.get(Integer.valueOf(offset + i / 2));
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue("The cache should honor its limit", cache.getWeight() <= 100); //$NON-NLS-1$
+		assertEquals("Wrong number of entries", cache.getWeight(), cache.keysSnapshot().size()); //$NON-NLS-1$
+	}
+}
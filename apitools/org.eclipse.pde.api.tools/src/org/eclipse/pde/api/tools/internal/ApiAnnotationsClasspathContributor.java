@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Christoph Läubrich and others.
+ * Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.IStateDeltaListener;
+import org.eclipse.pde.internal.core.IThreadSafeClasspathContributor;
 import org.eclipse.pde.internal.core.PDECore;
 import org.osgi.resource.Resource;
 import org.osgi.service.component.annotations.Activate;
@@ -40,7 +41,7 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 
 @Component(service = IClasspathContributor.class)
-public class ApiAnnotationsClasspathContributor implements IClasspathContributor, IStateDeltaListener {
+public class ApiAnnotationsClasspathContributor implements IThreadSafeClasspathContributor, IStateDeltaListener {
 
 	private static final int CHANGE_FLAGS = BundleDelta.ADDED | BundleDelta.REMOVED | BundleDelta.UPDATED;
 
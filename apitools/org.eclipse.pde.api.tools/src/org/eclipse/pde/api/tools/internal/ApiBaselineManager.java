@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,8 +52,8 @@ import org.eclipse.core.runtime.preferences.IScopeContext;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
-import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJobRule;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisScheduler;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
@@ -535,7 +535,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	public void stop() {
 		try {
-			Job.getJobManager().cancel(ApiAnalysisJob.class);
+			ApiAnalysisScheduler.getDefault().cancelAll();
 			if (baselinecache != null) {
 				// we should first dispose all existing baselines
 				for (IApiBaseline iApiBaseline : baselinecache.values()) {
@@ -640,7 +640,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		};
 
 		if (ApiAnalysisBuilder.isRunningAsJob()) {
-			Job.getJobManager().cancel(ApiAnalysisJob.class);
+			ApiAnalysisScheduler.getDefault().cancelAll();
 			Job.getJobManager().cancel(ApiBaselineManager.class);
 			Job job = new Job("Disposing Workspace API Baseline") { //$NON-NLS-1$
 				@Override
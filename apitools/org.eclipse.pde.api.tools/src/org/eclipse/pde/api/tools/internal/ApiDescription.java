@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -253,6 +254,47 @@ public class ApiDescription implements IApiDescription {
 			}
 		}
 
+		/**
+		 * Persists this node in the binary format of
+		 * {@link ApiDescriptionStream}, the counterpart of
+		 * {@link #persistXML(Document, Element)}.
+		 *
+		 * @param out the stream to write to
+		 * @throws IOException if the node cannot be written
+		 */
+		void persist(ApiDescriptionStream.Output out) throws IOException {
+			if (RestrictionModifiers.isUnrestricted(this.restrictions)) {
+				return;
+			}
+			switch (element.getElementType()) {
+				case IElementDescriptor.METHOD -> {
+					IMethodDescriptor md = (IMethodDescriptor) element;
+					out.writeByte(ApiDescriptionStream.METHOD);
+					out.writeString(md.getName());
+					out.writeString(md.getSignature());
+					persistAnnotations(out);
+				}
+				case IElementDescriptor.FIELD -> {
+					IFieldDescriptor fd = (IFieldDescriptor) element;
+					out.writeByte(ApiDescriptionStream.FIELD);
+					out.writeString(fd.getName());
+					persistAnnotations(out);
+				}
+				default -> { /**/ }
+			}
+		}
+
+		/**
+		 * Writes visibility and restrictions to the binary stream.
+		 *
+		 * @param out the stream to write to
+		 * @throws IOException if the annotations cannot be written
+		 */
+		void persistAnnotations(ApiDescriptionStream.Output out) throws IOException {
+			out.writeInt(this.visibility);
+			out.writeInt(this.restrictions);
+		}
+
 		/**
 		 * Adds visibility and restrictions to the XML element.
 		 *
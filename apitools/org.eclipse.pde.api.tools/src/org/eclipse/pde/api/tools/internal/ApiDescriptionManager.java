@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -51,7 +52,6 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.internal.core.natures.PluginProject;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -158,6 +158,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (file.exists()) {
 				file.delete();
 			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
 			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 			if (file.exists() && file.isDirectory()) {
 				file.delete();
@@ -226,14 +230,15 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			return;
 		}
 
+		// only descriptions that have been restored and changed since are
+		// written, the files of the other projects are left untouched
 		for (Entry<IJavaProject, IApiDescription> entry : fDescriptions.entrySet()) {
 			IJavaProject project = entry.getKey();
 			ProjectApiDescription desc = (ProjectApiDescription) entry.getValue();
 			if (desc.isModified()) {
 				Path dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath();
-				Document xml = desc.getXML();
 				try {
-					Util.writeDocumentToFile(xml, dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+					saveDescription(desc, dir);
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -242,6 +247,29 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		}
 	}
 
+	/**
+	 * Streams the given description to its binary file and removes the XML
+	 * file of older versions, if any.
+	 *
+	 * @param description the description to save
+	 * @param dir the state folder of the project of the description
+	 * @throws IOException if the description cannot be written
+	 */
+	public void saveDescription(ProjectApiDescription description, Path dir) throws IOException {
+		Files.createDirectories(dir);
+		Path file = dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		Path tmp = Files.createTempFile(dir, IApiCoreConstants.API_DESCRIPTION_BINARY_NAME, null);
+		try {
+			try (ApiDescriptionStream.Output out = new ApiDescriptionStream.Output(Files.newOutputStream(tmp))) {
+				description.persist(out);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+		Files.deleteIfExists(dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+	}
+
 	/**
 	 * Restores the API description from its saved file, if any and returns true
 	 * if successful.
@@ -249,7 +277,49 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	 * @return whether the restore succeeded
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
-		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
+		return restoreDescription(project, description, API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath());
+	}
+
+	/**
+	 * Restores the API description from the files in the given folder, if any
+	 * and returns true if successful. The binary file is preferred, the XML
+	 * file written by older versions is read if there is no binary file or if
+	 * the binary file cannot be read.
+	 *
+	 * @param project the project of the description
+	 * @param description the description to restore
+	 * @param dir the state folder of the project of the description
+	 * @return whether the restore succeeded
+	 * @throws CoreException if the XML file cannot be read
+	 */
+	public boolean restoreDescription(IJavaProject project, ProjectApiDescription description, Path dir) throws CoreException {
+		Path binary = dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		if (Files.isRegularFile(binary)) {
+			try (ApiDescriptionStream.Input in = new ApiDescriptionStream.Input(Files.newInputStream(binary))) {
+				if (in.readInt() == ApiDescriptionStream.MAGIC && in.readShort() == ApiDescriptionStream.FORMAT_VERSION) {
+					String version = in.readString();
+					long timestamp = in.readLong();
+					description.setEmbeddedVersion(version);
+					if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+						return false;
+					}
+					description.fPackageTimeStamp = timestamp;
+					description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+					restoreChildren(description, in, null, description.fPackageMap);
+					return true;
+				}
+			} catch (IOException | CoreException e) {
+				if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+					System.out.println("Failed to read the binary API description of " + project.getElementName() + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+			// a corrupt file or a file of another format version, drop what
+			// has been read and fall back to the XML file
+			description.clearPackages();
+			description.fPackageTimeStamp = 0L;
+			description.fManifestFile = null;
+		}
+		File file = dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 		if (file.exists()) {
 			try {
 				String xml = Files.readString(file.toPath());
@@ -273,6 +343,85 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		return false;
 	}
 
+	private void restoreChildren(ProjectApiDescription apiDesc, ApiDescriptionStream.Input in, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException, IOException {
+		for (byte kind = in.readByte(); kind != ApiDescriptionStream.END; kind = in.readByte()) {
+			restoreNode(apiDesc, kind, in, parentNode, childrenMap);
+		}
+	}
+
+	private void restoreNode(ProjectApiDescription apiDesc, byte kind, ApiDescriptionStream.Input in, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException, IOException {
+		ManifestNode node = null;
+		IElementDescriptor elementDesc = null;
+		boolean hasChildren = false;
+		switch (kind) {
+			case ApiDescriptionStream.PACKAGE -> {
+				int count = in.readInt();
+				IPackageFragment[] fragments = new IPackageFragment[count];
+				String pkgName = null;
+				for (int i = 0; i < count; i++) {
+					String handle = in.readString();
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle, null);
+					}
+					pkgName = je.getElementName();
+					fragments[i] = (IPackageFragment) je;
+				}
+				int vis = in.readInt();
+				if (count == 0) {
+					abort(ScannerMessages.ApiDescriptionManager_2, null);
+				}
+				elementDesc = Factory.packageDescriptor(pkgName);
+				node = apiDesc.newPackageNode(fragments, parentNode, elementDesc, vis, 0);
+				hasChildren = true;
+			}
+			case ApiDescriptionStream.TYPE -> {
+				String handle = in.readString();
+				int vis = in.readInt();
+				int res = in.readInt();
+				long timestamp = in.readLong();
+				IJavaElement je = JavaCore.create(handle);
+				if (je == null || je.getElementType() != IJavaElement.TYPE) {
+					abort(ScannerMessages.ApiDescriptionManager_3 + handle, null);
+				}
+				IType type = (IType) je;
+				elementDesc = Factory.typeDescriptor(type.getFullyQualifiedName('$'));
+				TypeNode tn = apiDesc.newTypeNode(type, parentNode, elementDesc, vis, res);
+				tn.fTimeStamp = timestamp;
+				node = tn;
+				hasChildren = true;
+			}
+			case ApiDescriptionStream.FIELD -> {
+				String name = in.readString();
+				int vis = in.readInt();
+				int res = in.readInt();
+				if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor type) {
+					elementDesc = type.getField(name);
+					node = apiDesc.newNode(parentNode, elementDesc, vis, res);
+				}
+			}
+			case ApiDescriptionStream.METHOD -> {
+				String name = in.readString();
+				String sig = in.readString();
+				int vis = in.readInt();
+				int res = in.readInt();
+				if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor type) {
+					elementDesc = type.getMethod(name, sig);
+					node = apiDesc.newNode(parentNode, elementDesc, vis, res);
+				}
+			}
+			default -> { /**/ }
+		}
+		if (node != null) {
+			childrenMap.put(elementDesc, node);
+			if (hasChildren) {
+				restoreChildren(apiDesc, in, node, node.children);
+			}
+		} else {
+			abort(ScannerMessages.ApiDescriptionManager_4, null);
+		}
+	}
+
 	private void restoreChildren(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException {
 		NodeList children = element.getChildNodes();
 		for (int i = 0; i < children.getLength(); i++) {
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary format of the API descriptions of workspace projects saved in the
+ * plug-in state location. The format is a stream of node records, the
+ * children of package and type nodes follow their parent and are terminated
+ * by {@link #END}. Strings are written once and referenced by their index
+ * afterwards since handles and member names repeat a lot.
+ *
+ * @see ProjectApiDescription#persist(Output)
+ * @see ApiDescriptionManager
+ */
+final class ApiDescriptionStream {
+
+	static final int MAGIC = 0x41504944; // "APID"
+
+	/**
+	 * Version of the binary format, increment when the layout changes
+	 */
+	static final short FORMAT_VERSION = 1;
+
+	static final byte END = 0;
+	static final byte PACKAGE = 1;
+	static final byte TYPE = 2;
+	static final byte FIELD = 3;
+	static final byte METHOD = 4;
+
+	private ApiDescriptionStream() {
+	}
+
+	/**
+	 * Writes an API description
+	 */
+	static final class Output implements Closeable {
+
+		private final DataOutputStream fOut;
+		private final Map<String, Integer> fStrings = new HashMap<>();
+
+		Output(OutputStream out) {
+			fOut = new DataOutputStream(new BufferedOutputStream(out));
+		}
+
+		void writeByte(int value) throws IOException {
+			fOut.writeByte(value);
+		}
+
+		void writeShort(int value) throws IOException {
+			fOut.writeShort(value);
+		}
+
+		void writeInt(int value) throws IOException {
+			fOut.writeInt(value);
+		}
+
+		void writeLong(long value) throws IOException {
+			fOut.writeLong(value);
+		}
+
+		/**
+		 * Writes the given string or the index of its first occurrence if it
+		 * has been written before.
+		 */
+		void writeString(String value) throws IOException {
+			Integer index = fStrings.get(value);
+			if (index != null) {
+				fOut.writeInt(index.intValue());
+				return;
+			}
+			fStrings.put(value, Integer.valueOf(fStrings.size()));
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			fOut.writeInt(-1);
+			fOut.writeInt(bytes.length);
+			fOut.write(bytes);
+		}
+
+		@Override
+		public void close() throws IOException {
+			fOut.close();
+		}
+	}
+
+	/**
+	 * Reads an API description written by {@link Output}
+	 */
+	static final class Input implements Closeable {
+
+		private final DataInputStream fIn;
+		private final List<String> fStrings = new ArrayList<>();
+
+		Input(InputStream in) {
+			fIn = new DataInputStream(new BufferedInputStream(in));
+		}
+
+		byte readByte() throws IOException {
+			return fIn.readByte();
+		}
+
+		short readShort() throws IOException {
+			return fIn.readShort();
+		}
+
+		int readInt() throws IOException {
+			return fIn.readInt();
+		}
+
+		long readLong() throws IOException {
+			return fIn.readLong();
+		}
+
+		String readString() throws IOException {
+			int index = fIn.readInt();
+			if (index >= 0) {
+				if (index >= fStrings.size()) {
+					throw new IOException("Invalid string reference: " + index); //$NON-NLS-1$
+				}
+				return fStrings.get(index);
+			}
+			int length = fIn.readInt();
+			if (length < 0) {
+				throw new IOException("Invalid string length: " + length); //$NON-NLS-1$
+			}
+			byte[] bytes = new byte[length];
+			fIn.readFully(bytes);
+			String value = new String(bytes, StandardCharsets.UTF_8);
+			fStrings.add(value);
+			return value;
+		}
+
+		@Override
+		public void close() throws IOException {
+			fIn.close();
+		}
+	}
+}
@@ -0,0 +1,378 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A thread safe least recently used cache bounded by the total weight of its
+ * elements rather than by their number.
+ * <p>
+ * The entries are spread over independently locked segments so that
+ * concurrent readers and writers of different keys do not block each other.
+ * Every access stamps the entry with a global tick, which allows evicting the
+ * least recently used entry of the whole cache by comparing the eldest entry
+ * of each segment.
+ * </p>
+ * <p>
+ * Entries are only evicted when the total weight exceeds the limit after an
+ * insertion. The most recently inserted entry is never evicted, even if its
+ * weight alone exceeds the limit.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class ConcurrentLRUCache<K, V> {
+
+	/**
+	 * Hit, miss and eviction counters of one or more caches
+	 */
+	public static final class Statistics {
+
+		final LongAdder fHits = new LongAdder();
+		final LongAdder fMisses = new LongAdder();
+		final LongAdder fEvictions = new LongAdder();
+
+		/**
+		 * @return the number of lookups that found a value
+		 */
+		public long getHitCount() {
+			return fHits.sum();
+		}
+
+		/**
+		 * @return the number of lookups that did not find a value
+		 */
+		public long getMissCount() {
+			return fMisses.sum();
+		}
+
+		/**
+		 * @return the number of entries evicted to honor the weight limit
+		 */
+		public long getEvictionCount() {
+			return fEvictions.sum();
+		}
+
+		/**
+		 * Resets all counters to zero
+		 */
+		public void reset() {
+			fHits.reset();
+			fMisses.reset();
+			fEvictions.reset();
+		}
+
+		@Override
+		public String toString() {
+			return "hits: " + getHitCount() + ", misses: " + getMissCount() + ", evictions: " + getEvictionCount(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private static final class Entry<V> {
+		final V value;
+		final int weight;
+		long tick;
+
+		Entry(V value, int weight, long tick) {
+			this.value = value;
+			this.weight = weight;
+			this.tick = tick;
+		}
+	}
+
+	private static final class Segment<K, V> {
+		final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	private final Segment<K, V>[] fSegments;
+	private final ToIntFunction<V> fWeigher;
+	private final BiConsumer<K, V> fEvictionListener;
+	private final Statistics fStatistics;
+	private final AtomicLong fTicker = new AtomicLong();
+	private final AtomicLong fWeight = new AtomicLong();
+	private volatile long fWeightLimit;
+
+	/**
+	 * Creates a cache where each element weighs 1, i.e. bounded by the number
+	 * of its elements.
+	 *
+	 * @param weightLimit the maximum number of elements
+	 * @param concurrencyLevel the number of segments, the expected number of
+	 *            threads using the cache at the same time
+	 */
+	public ConcurrentLRUCache(long weightLimit, int concurrencyLevel) {
+		this(weightLimit, concurrencyLevel, value -> 1, null, new Statistics());
+	}
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param weightLimit the maximum total weight of the elements
+	 * @param concurrencyLevel the number of segments, the expected number of
+	 *            threads using the cache at the same time
+	 * @param weigher computes the estimated size of an element, must be
+	 *            positive and must not change while the element is cached
+	 * @param evictionListener notified when an element is evicted to honor the
+	 *            weight limit or <code>null</code>
+	 * @param statistics the counters to record accesses in, can be shared by
+	 *            several caches
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(long weightLimit, int concurrencyLevel, ToIntFunction<V> weigher, BiConsumer<K, V> evictionListener, Statistics statistics) {
+		int segments = Integer.highestOneBit(Math.max(1, concurrencyLevel));
+		fSegments = new Segment[segments];
+		for (int i = 0; i < segments; i++) {
+			fSegments[i] = new Segment<>();
+		}
+		fWeightLimit = weightLimit;
+		fWeigher = weigher;
+		fEvictionListener = evictionListener;
+		fStatistics = statistics;
+	}
+
+	private Segment<K, V> segmentFor(Object key) {
+		int hash = key.hashCode();
+		hash ^= (hash >>> 16);
+		return fSegments[hash & (fSegments.length - 1)];
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as the most
+	 * recently used element.
+	 *
+	 * @return the value or <code>null</code> if none
+	 */
+	public V get(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			Entry<V> entry = segment.entries.get(key);
+			if (entry != null) {
+				entry.tick = fTicker.incrementAndGet();
+				fStatistics.fHits.increment();
+				return entry.value;
+			}
+		}
+		fStatistics.fMisses.increment();
+		return null;
+	}
+
+	/**
+	 * Caches the given value, evicting the least recently used elements if the
+	 * weight limit is exceeded.
+	 *
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		Entry<V> entry = new Entry<>(value, fWeigher.applyAsInt(value), fTicker.incrementAndGet());
+		Segment<K, V> segment = segmentFor(key);
+		Entry<V> previous;
+		synchronized (segment) {
+			previous = segment.entries.put(key, entry);
+		}
+		fWeight.addAndGet(entry.weight - (previous == null ? 0 : previous.weight));
+		evict(key);
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 * Returns the value cached for the given key, computing and caching it if
+	 * absent.
+	 *
+	 * @param mappingFunction computes the value to cache, must not return
+	 *            <code>null</code>
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+		Segment<K, V> segment = segmentFor(key);
+		Entry<V> entry;
+		synchronized (segment) {
+			entry = segment.entries.get(key);
+			if (entry != null) {
+				return entry.value;
+			}
+			V newValue = mappingFunction.apply(key);
+			entry = new Entry<>(newValue, fWeigher.applyAsInt(newValue), fTicker.incrementAndGet());
+			segment.entries.put(key, entry);
+		}
+		fWeight.addAndGet(entry.weight);
+		evict(key);
+		return entry.value;
+	}
+
+	/**
+	 * Removes the value cached for the given key. The eviction listener is not
+	 * notified.
+	 *
+	 * @return the removed value or <code>null</code> if none
+	 */
+	public V remove(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		Entry<V> entry;
+		synchronized (segment) {
+			entry = segment.entries.remove(key);
+		}
+		if (entry == null) {
+			return null;
+		}
+		fWeight.addAndGet(-entry.weight);
+		return entry.value;
+	}
+
+	/**
+	 * Evicts the least recently used entries until the weight limit is
+	 * honored, never evicting the given key.
+	 */
+	private void evict(K keep) {
+		while (fWeight.get() > fWeightLimit) {
+			Segment<K, V> eldestSegment = null;
+			long eldestTick = Long.MAX_VALUE;
+			for (Segment<K, V> segment : fSegments) {
+				synchronized (segment) {
+					for (Map.Entry<K, Entry<V>> candidate : segment.entries.entrySet()) {
+						if (candidate.getKey().equals(keep)) {
+							continue;
+						}
+						if (candidate.getValue().tick < eldestTick) {
+							eldestTick = candidate.getValue().tick;
+							eldestSegment = segment;
+						}
+						// entries are in access order, only the first
+						// candidate of a segment matters
+						break;
+					}
+				}
+			}
+			if (eldestSegment == null) {
+				return;
+			}
+			K evictedKey = null;
+			Entry<V> evicted = null;
+			synchronized (eldestSegment) {
+				Iterator<Map.Entry<K, Entry<V>>> iterator = eldestSegment.entries.entrySet().iterator();
+				while (iterator.hasNext()) {
+					Map.Entry<K, Entry<V>> candidate = iterator.next();
+					if (!candidate.getKey().equals(keep)) {
+						evictedKey = candidate.getKey();
+						evicted = candidate.getValue();
+						iterator.remove();
+						break;
+					}
+				}
+			}
+			if (evicted != null) {
+				fWeight.addAndGet(-evicted.weight);
+				fStatistics.fEvictions.increment();
+				if (fEvictionListener != null) {
+					fEvictionListener.accept(evictedKey, evicted.value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all elements from this cache without notifying the eviction
+	 * listener.
+	 */
+	public void flush() {
+		for (Segment<K, V> segment : fSegments) {
+			long weight = 0;
+			synchronized (segment) {
+				for (Entry<V> entry : segment.entries.values()) {
+					weight += entry.weight;
+				}
+				segment.entries.clear();
+			}
+			fWeight.addAndGet(-weight);
+		}
+	}
+
+	/**
+	 * @return true if the cache has no entries, false otherwise
+	 */
+	public boolean isEmpty() {
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				if (!segment.entries.isEmpty()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return snapshot of the keys in the cache
+	 */
+	public List<K> keysSnapshot() {
+		List<K> keys = new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				keys.addAll(segment.entries.keySet());
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * @return snapshot of the elements in the cache
+	 */
+	public List<V> elementsSnapshot() {
+		List<V> values = new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				for (Entry<V> entry : segment.entries.values()) {
+					values.add(entry.value);
+				}
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * @return the current total weight of the elements in the cache
+	 */
+	public long getWeight() {
+		return fWeight.get();
+	}
+
+	/**
+	 * Sets the maximum total weight of the elements, evicting the least
+	 * recently used elements if the new limit is exceeded.
+	 */
+	public void setWeightLimit(long limit) {
+		fWeightLimit = limit;
+		evict(null);
+	}
+
+	/**
+	 * @return the access statistics of this cache
+	 */
+	public Statistics getStatistics() {
+		return fStatistics;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -134,6 +135,19 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persist(ApiDescriptionStream.Output out) throws IOException {
+			if (shouldPersist()) {
+				out.writeByte(ApiDescriptionStream.PACKAGE);
+				out.writeInt(fFragments.length);
+				for (IPackageFragment fFragment : fFragments) {
+					out.writeString(fFragment.getHandleIdentifier());
+				}
+				out.writeInt(this.visibility);
+				persistChildren(out, children);
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -312,6 +326,17 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persist(ApiDescriptionStream.Output out) throws IOException {
+			if (shouldPersist()) {
+				out.writeByte(ApiDescriptionStream.TYPE);
+				out.writeString(fType.getHandleIdentifier());
+				persistAnnotations(out);
+				out.writeLong(fTimeStamp);
+				persistChildren(out, children);
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -650,6 +675,36 @@ public class ProjectApiDescription extends ApiDescription {
 		return document;
 	}
 
+	/**
+	 * Writes this API description in the binary format of
+	 * {@link ApiDescriptionStream}.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the description cannot be written
+	 */
+	synchronized void persist(ApiDescriptionStream.Output out) throws IOException {
+		out.writeInt(ApiDescriptionStream.MAGIC);
+		out.writeShort(ApiDescriptionStream.FORMAT_VERSION);
+		out.writeString(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+		out.writeLong(fPackageTimeStamp);
+		persistChildren(out, fPackageMap);
+	}
+
+	/**
+	 * Writes the elements in the given map followed by the end of the list of
+	 * children.
+	 *
+	 * @param out the stream to write to
+	 * @param elementMap elements to persist
+	 * @throws IOException if an element cannot be written
+	 */
+	void persistChildren(ApiDescriptionStream.Output out, Map<IElementDescriptor, ManifestNode> elementMap) throws IOException {
+		for (ManifestNode node : elementMap.values()) {
+			node.persist(out);
+		}
+		out.writeByte(ApiDescriptionStream.END);
+	}
+
 	/**
 	 * Persists the elements in the given map as XML elements, appended to the
 	 * given xmlElement.
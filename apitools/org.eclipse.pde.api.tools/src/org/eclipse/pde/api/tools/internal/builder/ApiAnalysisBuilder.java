@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -48,6 +49,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -175,7 +177,16 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	private BuildState buildstate = null;
 
-	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
+	/**
+	 * Pending marker updates of all projects, in submission order
+	 */
+	private static final ConcurrentLinkedQueue<MarkersTask> markersQueue = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * A marker update of a project
+	 */
+	private record MarkersTask(IProject project, Runnable task) {
+	}
 
 	/**
 	 * Bug 549838:  In case auto-building on a API tools settings change  is not desired,
@@ -376,9 +387,8 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		if (isRunningAsJob()) {
 			ApiAnalysisJob job = new ApiAnalysisJob(BuilderMessages.api_analysis_builder, currentproject, fullBuild,
 					wbaseline, projects);
-			job.cancelSimilarJobs(fullBuild);
-			job.schedule(100);
 			job.setPriority(Job.DECORATE);
+			ApiAnalysisScheduler.getDefault().submit(job);
 		} else {
 			work(fullBuild, wbaseline, projects, monitor);
 		}
@@ -579,11 +589,10 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			} catch (OperationCanceledException | InterruptedException e1) {
 				// nothing to do
 			}
-			cancelSimilarJobs(fullBuild);
 			IStatus s = new Status(IStatus.INFO, ApiAnalysisBuilder.class,
 					"Re-scheduling API analysis for " + project.getName(), e); //$NON-NLS-1$
 			ApiPlugin.log(s);
-			schedule();
+			ApiAnalysisScheduler.getDefault().submit(this);
 		}
 
 		@Override
@@ -595,11 +604,32 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			Job[] jobs = Job.getJobManager().find(ApiAnalysisJob.class);
 			for (Job job : jobs) {
 				ApiAnalysisJob ajob = (ApiAnalysisJob) job;
-				if (fullBuild == ajob.fullBuild && project.equals(ajob.project)) {
+				if (ajob != this && fullBuild == ajob.fullBuild && project.equals(ajob.project)) {
 					job.cancel();
 				}
 			}
 		}
+
+		/**
+		 * @return the project to analyze
+		 */
+		IProject getProject() {
+			return project;
+		}
+
+		/**
+		 * @return the projects required by the project to analyze
+		 */
+		IProject[] getPrerequisites() {
+			return projects;
+		}
+
+		/**
+		 * @return if this job performs a full build
+		 */
+		boolean isFullBuild() {
+			return fullBuild;
+		}
 	}
 
 	public static final class ApiAnalysisJobRule implements ISchedulingRule {
@@ -885,8 +915,12 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			return;
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_on_0, 4);
+		// the cached deltas are keyed by type fingerprints and remain valid,
+		// the deltas of the types not compared again are dropped
+		DeltaCache deltaCache = this.buildstate != null ? this.buildstate.getDeltaCache() : null;
 		BuildState.setLastBuiltState(this.currentproject, null);
 		this.buildstate = new BuildState();
+		this.buildstate.setDeltaCache(new DeltaCache(deltaCache));
 		localMonitor
 				.subTask(NLS.bind(BuilderMessages.ApiAnalysisBuilder_initializing_analyzer, currentproject.getName()));
 		cleanupMarkers(this.currentproject);
@@ -912,18 +946,33 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	}
 
 	/**
-	 * Creates or removes markers, uses the current project rule.
-	 * The tasks to do are maintained by markersQueue and executed in the submission order
+	 * Creates or removes markers. The tasks to do are maintained by markersQueue
+	 * and executed in the submission order. The pending tasks of all projects are
+	 * run in one workspace operation, using the rules of their projects.
 	 */
 	class ApiAnalysisMarkersJob extends WorkspaceJob {
 
+		private final Set<IProject> projects = new LinkedHashSet<>();
+
 		public ApiAnalysisMarkersJob(Runnable task) {
 			super("Updating API analysis markers on " + currentproject.getName()); //$NON-NLS-1$
-			markersQueue.add(task);
-			setRule(currentproject);
+			markersQueue.add(new MarkersTask(currentproject, task));
+			for (MarkersTask pending : markersQueue) {
+				projects.add(pending.project());
+			}
+			setRule(MultiRule.combine(projects.toArray(new ISchedulingRule[projects.size()])));
 			setSystem(true);
 		}
 
+		private boolean hasTasks() {
+			for (MarkersTask pending : markersQueue) {
+				if (projects.contains(pending.project())) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		@Override
 		public boolean belongsTo(Object family) {
 			return super.belongsTo(family) || ApiAnalysisMarkersJob.class == family;
@@ -931,19 +980,25 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 		@Override
 		public boolean shouldRun() {
-			return !markersQueue.isEmpty();
+			return hasTasks();
 		}
 
 		@Override
 		public boolean shouldSchedule() {
-			return !markersQueue.isEmpty();
+			return hasTasks();
 		}
 
 		@Override
 		public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
-			while (!markersQueue.isEmpty()) {
-				Runnable task = markersQueue.poll();
-				task.run();
+			// tasks of other projects are left to the jobs holding their rules
+			while (hasTasks()) {
+				for (Iterator<MarkersTask> iterator = markersQueue.iterator(); iterator.hasNext();) {
+					MarkersTask pending = iterator.next();
+					if (projects.contains(pending.project())) {
+						iterator.remove();
+						pending.task().run();
+					}
+				}
 			}
 			return Status.OK_STATUS;
 		}
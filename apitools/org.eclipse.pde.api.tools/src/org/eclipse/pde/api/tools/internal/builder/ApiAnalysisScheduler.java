@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Schedules the API analysis jobs of the workspace projects.
+ * <p>
+ * Submitted jobs are held back until the analysis of the projects they
+ * require has finished, so that after a workspace build the projects are
+ * analyzed in the order of the project dependency graph. Independent projects
+ * are analyzed concurrently by at most {@link #WORKERS_PROPERTY} jobs. If the
+ * pending jobs only wait for each other, which happens with cyclic project
+ * dependencies, the oldest one is started.
+ * </p>
+ * <p>
+ * The jobs are scheduled after the monitor of the scheduler has been released
+ * since the job change events notifying the scheduler are sent while the job
+ * manager holds its own lock.
+ * </p>
+ *
+ * @since 1.3.1300
+ */
+public final class ApiAnalysisScheduler {
+
+	/**
+	 * System property to set the maximum number of projects analyzed at the
+	 * same time, defaults to the number of available processors
+	 */
+	public static final String WORKERS_PROPERTY = "org.eclipse.pde.api.tools.analysisWorkers"; //$NON-NLS-1$
+
+	private static final ApiAnalysisScheduler fgDefault = new ApiAnalysisScheduler(Integer.getInteger(WORKERS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+
+	private final int fWorkers;
+
+	/**
+	 * Jobs waiting for a worker or for the analysis of their prerequisites, in
+	 * submission order
+	 */
+	private final List<ApiAnalysisJob> fPending = new ArrayList<>();
+
+	/**
+	 * Scheduled jobs and the time they started running at, or
+	 * <code>-1</code> if they have not started yet
+	 */
+	private final Map<ApiAnalysisJob, Long> fRunning = new HashMap<>();
+
+	/**
+	 * Duration in milliseconds of the last analysis of each project
+	 */
+	private final Map<String, Long> fTimings = new LinkedHashMap<>();
+
+	/**
+	 * Incremented by {@link #cancelAll()}, jobs dispatched before are
+	 * cancelled again once they are scheduled
+	 */
+	private int fCancelCount = 0;
+
+	private final IJobChangeListener fListener = new JobChangeAdapter() {
+		@Override
+		public void running(IJobChangeEvent event) {
+			started((ApiAnalysisJob) event.getJob());
+		}
+
+		@Override
+		public void done(IJobChangeEvent event) {
+			finished((ApiAnalysisJob) event.getJob(), event.getResult());
+		}
+	};
+
+	/**
+	 * Creates a scheduler running the analysis of at most the given number of
+	 * projects at the same time.
+	 *
+	 * @param workers the maximum number of jobs running at the same time
+	 */
+	public ApiAnalysisScheduler(int workers) {
+		fWorkers = Math.max(1, workers);
+	}
+
+	/**
+	 * @return the scheduler of the workspace
+	 */
+	public static ApiAnalysisScheduler getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Submits the given job, replacing the pending and cancelling the
+	 * scheduled jobs doing the same kind of analysis of the same project.
+	 *
+	 * @param job the analysis job
+	 */
+	public void submit(ApiAnalysisJob job) {
+		job.cancelSimilarJobs(job.isFullBuild());
+		List<ApiAnalysisJob> ready;
+		int cancelCount;
+		synchronized (this) {
+			for (Iterator<ApiAnalysisJob> iterator = fPending.iterator(); iterator.hasNext();) {
+				ApiAnalysisJob pending = iterator.next();
+				if (pending.isFullBuild() == job.isFullBuild() && pending.getProject().equals(job.getProject())) {
+					iterator.remove();
+				}
+			}
+			fPending.add(job);
+			// listeners are only registered once per job
+			job.addJobChangeListener(fListener);
+			ready = dispatch();
+			cancelCount = fCancelCount;
+		}
+		schedule(ready, cancelCount);
+	}
+
+	/**
+	 * Discards the pending jobs and cancels the scheduled ones
+	 */
+	public void cancelAll() {
+		synchronized (this) {
+			fPending.clear();
+			fCancelCount++;
+		}
+		Job.getJobManager().cancel(ApiAnalysisJob.class);
+	}
+
+	/**
+	 * @return the number of jobs waiting to be scheduled
+	 */
+	public synchronized int getPendingCount() {
+		return fPending.size();
+	}
+
+	/**
+	 * @return the duration in milliseconds of the last analysis of each
+	 *         project, keyed by project name
+	 */
+	public synchronized Map<String, Long> getTimings() {
+		return Collections.unmodifiableMap(new LinkedHashMap<>(fTimings));
+	}
+
+	/**
+	 * Takes the pending jobs whose prerequisites are analyzed while there are
+	 * free workers
+	 *
+	 * @return the jobs to schedule once the monitor is released
+	 */
+	private List<ApiAnalysisJob> dispatch() {
+		List<ApiAnalysisJob> ready = new ArrayList<>();
+		while (fRunning.size() < fWorkers && !fPending.isEmpty()) {
+			ApiAnalysisJob next = null;
+			for (ApiAnalysisJob job : fPending) {
+				if (isReady(job)) {
+					next = job;
+					break;
+				}
+			}
+			if (next == null) {
+				if (!fRunning.isEmpty()) {
+					break;
+				}
+				// the pending jobs wait for each other
+				next = fPending.get(0);
+			}
+			fPending.remove(next);
+			fRunning.put(next, Long.valueOf(-1L));
+			ready.add(next);
+		}
+		return ready;
+	}
+
+	/**
+	 * Schedules the given jobs, must not be called while holding the monitor
+	 * of the scheduler.
+	 *
+	 * @param jobs the jobs returned by {@link #dispatch()}
+	 * @param cancelCount the value of {@link #fCancelCount} when the jobs were
+	 *            dispatched
+	 */
+	private void schedule(List<ApiAnalysisJob> jobs, int cancelCount) {
+		if (jobs.isEmpty()) {
+			return;
+		}
+		for (ApiAnalysisJob job : jobs) {
+			job.schedule(100);
+		}
+		boolean cancelled;
+		synchronized (this) {
+			cancelled = cancelCount != fCancelCount;
+		}
+		if (cancelled) {
+			// cancelAll() has been called before the jobs were scheduled
+			for (ApiAnalysisJob job : jobs) {
+				job.cancel();
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if neither the project of the given job nor
+	 *         any of the projects it requires is waiting for or under analysis
+	 */
+	private boolean isReady(ApiAnalysisJob job) {
+		for (ApiAnalysisJob running : fRunning.keySet()) {
+			if (running.getProject().equals(job.getProject()) || requires(job, running.getProject())) {
+				return false;
+			}
+		}
+		for (ApiAnalysisJob pending : fPending) {
+			if (pending != job && requires(job, pending.getProject())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean requires(ApiAnalysisJob job, IProject project) {
+		for (IProject prerequisite : job.getPrerequisites()) {
+			if (prerequisite.equals(project)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized void started(ApiAnalysisJob job) {
+		fRunning.put(job, Long.valueOf(System.currentTimeMillis()));
+	}
+
+	private void finished(ApiAnalysisJob job, IStatus result) {
+		List<ApiAnalysisJob> ready;
+		int cancelCount;
+		synchronized (this) {
+			ready = finishedLocked(job, result);
+			cancelCount = fCancelCount;
+		}
+		schedule(ready, cancelCount);
+	}
+
+	private List<ApiAnalysisJob> finishedLocked(ApiAnalysisJob job, IStatus result) {
+		Long start = fRunning.remove(job);
+		if (start != null && start.longValue() >= 0) {
+			long time = System.currentTimeMillis() - start.longValue();
+			String name = job.getProject().getName();
+			fTimings.remove(name);
+			fTimings.put(name, Long.valueOf(time));
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisScheduler: Analysis of " + name + " took " + time + "ms, status: " + result); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+		List<ApiAnalysisJob> ready = dispatch();
+		if (ApiPlugin.DEBUG_BUILDER && fRunning.isEmpty() && fPending.isEmpty()) {
+			System.out.println("ApiAnalysisScheduler: All analysis jobs done, timings (ms): " + fTimings); //$NON-NLS-1$
+		}
+		return ready;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -158,6 +158,13 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * The current build state to use
 	 */
 	private BuildState fBuildState = null;
+	/**
+	 * Fingerprints of the types compared during the current analysis, keyed
+	 * by component version and type name
+	 *
+	 * @see DeltaCache#fingerprint(IApiType, Map)
+	 */
+	private Map<String, Long> fFingerprints = new HashMap<>();
 	/**
 	 * The current filter store to use
 	 */
@@ -192,6 +199,8 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		try {
 			this.fJavaProject = getJavaProject(component);
 			this.fFilterStore = filterStore;
+			// workspace types may have changed since the last analysis
+			this.fFingerprints.clear();
 			this.fPreferences = preferences;
 			if (!ignoreUnusedProblemFilterCheck()) {
 				((ApiFilterStore) component.getFilterStore()).recordFilterUsage();
@@ -981,6 +990,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		if (fBuildState != null) {
 			fBuildState = null;
 		}
+		fFingerprints.clear();
 	}
 
 	/**
@@ -1401,7 +1411,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				if (reexported) {
 					exporter = component;
 				}
-				delta = ApiComparator.compare(classFile, reference, provider, exporter, reference.getBaseline(), provider.getBaseline(), VisibilityModifiers.API, subMonitor.split(1));
+				delta = compare(classFile, typeName, reference, provider, exporter, subMonitor.split(1));
 			} catch (OperationCanceledException oce) {
 				// do nothing, but don't forward it
 				// https://bugs.eclipse.org/bugs/show_bug.cgi?id=304315
@@ -1439,6 +1449,22 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 	}
 
+	/**
+	 * Compares the given type with its baseline version, reusing the delta
+	 * from the delta cache of the build state if neither version of the type
+	 * has changed since it was computed.
+	 *
+	 * @return the delta or <code>null</code> if the comparison failed
+	 */
+	private IDelta compare(IApiTypeRoot classFile, String typeName, IApiComponent reference, IApiComponent provider, IApiComponent exporter, IProgressMonitor monitor) {
+		DeltaCache cache = fBuildState.getDeltaCache();
+		if (cache == null) {
+			cache = new DeltaCache();
+			fBuildState.setDeltaCache(cache);
+		}
+		return cache.compare(classFile, typeName, reference, provider, exporter, fFingerprints, monitor);
+	}
+
 	/**
 	 * Compares the two given components and generates an {@link IDelta}
 	 */
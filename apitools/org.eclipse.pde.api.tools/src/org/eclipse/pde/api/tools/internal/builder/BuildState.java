@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,7 +59,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 35;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -78,6 +78,12 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Deltas of the types of the project against the baseline
+	 *
+	 * @since 1.3.1300
+	 */
+	private DeltaCache deltaCache;
 
 	/**
 	 * Constructor
@@ -155,6 +161,9 @@ public class BuildState {
 					}
 					state.setBuildPropertiesState(map);
 				}
+				if (in.readBoolean()) {
+					state.deltaCache = DeltaCache.read(in);
+				}
 			}
 			return state;
 		}
@@ -210,6 +219,11 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		DeltaCache cache = state.getDeltaCache();
+		out.writeBoolean(cache != null);
+		if (cache != null) {
+			DeltaCache.write(cache, out);
+		}
 	}
 
 	/**
@@ -522,6 +536,27 @@ public class BuildState {
 		buildpathCRC = crc32;
 	}
 
+	/**
+	 * Returns the cache of the deltas of the project types against the
+	 * baseline
+	 *
+	 * @return the delta cache or <code>null</code> if none
+	 * @since 1.3.1300
+	 */
+	public DeltaCache getDeltaCache() {
+		return this.deltaCache;
+	}
+
+	/**
+	 * Sets the cache of the deltas of the project types against the baseline
+	 *
+	 * @param cache the delta cache or <code>null</code>
+	 * @since 1.3.1300
+	 */
+	public void setDeltaCache(DeltaCache cache) {
+		this.deltaCache = cache;
+	}
+
 	/**
 	 * Return the last built state for the given project, or null if none
 	 */
@@ -0,0 +1,524 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.api.tools.internal.comparator.Delta;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Cache of the deltas between the baseline and the workspace version of the
+ * types of a project, saved with the {@link BuildState} of the project.
+ * <p>
+ * A cached delta is reused as long as the versions of the baseline and the
+ * workspace components and the fingerprints of both versions of the type are
+ * the same. The fingerprint of a type covers everything the class file
+ * comparator looks at: the class file, the API description of the type, its
+ * members and its enclosing types, its member types, its super types and the
+ * superclass chains of the exceptions thrown by its methods as resolved from
+ * its component.
+ * </p>
+ * <p>
+ * A full build starts with a cache created from the cache of the previous
+ * build, which only keeps the deltas of the types compared again, so that the
+ * deltas of deleted or renamed types are dropped.
+ * </p>
+ *
+ * @since 1.3.1300
+ */
+public final class DeltaCache {
+
+	private static final byte NO_DELTA = 0;
+	private static final byte ROOT_DELTA = 1;
+	private static final byte DELTA = 2;
+
+	private static final class Entry {
+		final String fReferenceId;
+		final String fComponentId;
+		final long fReferenceFingerprint;
+		final long fFingerprint;
+		final IDelta fDelta;
+
+		Entry(String referenceId, String componentId, long referenceFingerprint, long fingerprint, IDelta delta) {
+			fReferenceId = referenceId;
+			fComponentId = componentId;
+			fReferenceFingerprint = referenceFingerprint;
+			fFingerprint = fingerprint;
+			fDelta = delta;
+		}
+
+		boolean matches(String referenceId, String componentId, long referenceFingerprint, long fingerprint) {
+			return fReferenceFingerprint == referenceFingerprint && fFingerprint == fingerprint && fReferenceId.equals(referenceId) && fComponentId.equals(componentId);
+		}
+	}
+
+	/**
+	 * The last computed delta of each type name
+	 */
+	private final Map<String, Entry> fEntries = new LinkedHashMap<>();
+
+	/**
+	 * The cache of the previous build the deltas are taken from during a full
+	 * build, <code>null</code> if none
+	 */
+	private final DeltaCache fPrevious;
+
+	/**
+	 * Creates an empty cache.
+	 */
+	public DeltaCache() {
+		fPrevious = null;
+	}
+
+	/**
+	 * Creates a cache for a full build. The deltas of the given cache are
+	 * taken over when their types are compared again, the others are
+	 * dropped.
+	 *
+	 * @param previous the cache of the previous build or <code>null</code>
+	 */
+	public DeltaCache(DeltaCache previous) {
+		fPrevious = previous;
+	}
+
+	/**
+	 * Returns the cached delta of the given type if it was computed for the
+	 * same versions.
+	 *
+	 * @param typeName the name of the type
+	 * @param referenceId the version id of the baseline component
+	 * @param componentId the version id of the workspace component
+	 * @param referenceFingerprint the fingerprint of the baseline version of
+	 *            the type
+	 * @param fingerprint the fingerprint of the workspace version of the type
+	 * @return the delta or <code>null</code> if none is cached
+	 */
+	public synchronized IDelta getDelta(String typeName, String referenceId, String componentId, long referenceFingerprint, long fingerprint) {
+		Entry entry = getEntry(typeName);
+		if (entry != null && entry.matches(referenceId, componentId, referenceFingerprint, fingerprint)) {
+			return entry.fDelta;
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether a delta of the given type is cached for the given
+	 *         component versions, whatever the fingerprints it was computed
+	 *         for
+	 */
+	private synchronized boolean hasDelta(String typeName, String referenceId, String componentId) {
+		Entry entry = getEntry(typeName);
+		return entry != null && entry.fReferenceId.equals(referenceId) && entry.fComponentId.equals(componentId);
+	}
+
+	private synchronized Entry getEntry(String typeName) {
+		Entry entry = fEntries.get(typeName);
+		if (entry == null && fPrevious != null) {
+			entry = fPrevious.remove(typeName);
+			if (entry != null) {
+				fEntries.put(typeName, entry);
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * Caches the delta of the given type, replacing the delta computed for
+	 * other versions if any.
+	 *
+	 * @see #getDelta(String, String, String, long, long)
+	 */
+	public synchronized void putDelta(String typeName, String referenceId, String componentId, long referenceFingerprint, long fingerprint, IDelta delta) {
+		fEntries.put(typeName, new Entry(referenceId, componentId, referenceFingerprint, fingerprint, delta));
+	}
+
+	private synchronized Entry remove(String typeName) {
+		return fEntries.remove(typeName);
+	}
+
+	/**
+	 * Compares the given type with its baseline version, reusing the cached
+	 * delta if neither version of the type has changed since it was computed.
+	 * The type structures are only built for fingerprinting before the
+	 * comparison if a delta is cached for the same component versions,
+	 * otherwise the fingerprints are computed from the structures built by the
+	 * comparison.
+	 *
+	 * @param classFile the workspace version of the type
+	 * @param typeName the name of the type
+	 * @param reference the baseline component
+	 * @param provider the workspace component
+	 * @param exporter the component re-exporting the type or <code>null</code>
+	 * @param fingerprints the fingerprints computed so far
+	 * @param monitor the progress monitor
+	 * @return the delta or <code>null</code> if the comparison failed
+	 * @see #fingerprint(IApiType, Map)
+	 */
+	public IDelta compare(IApiTypeRoot classFile, String typeName, IApiComponent reference, IApiComponent provider, IApiComponent exporter, Map<String, Long> fingerprints, IProgressMonitor monitor) {
+		String referenceId = Util.getComponentVersionsId(reference);
+		String componentId = Util.getComponentVersionsId(provider);
+		if (exporter != null) {
+			componentId += '/' + Util.getComponentVersionsId(exporter);
+		}
+		long[] typeFingerprints = null;
+		if (hasDelta(typeName, referenceId, componentId)) {
+			typeFingerprints = fingerprint(classFile, typeName, reference, fingerprints);
+			if (typeFingerprints != null) {
+				IDelta delta = getDelta(typeName, referenceId, componentId, typeFingerprints[0], typeFingerprints[1]);
+				if (delta != null) {
+					if (ApiPlugin.DEBUG_API_ANALYZER) {
+						System.out.println("Reusing cached delta for " + typeName); //$NON-NLS-1$
+					}
+					return delta;
+				}
+			}
+		}
+		IDelta delta = ApiComparator.compare(classFile, reference, provider, exporter, reference.getBaseline(), provider.getBaseline(), VisibilityModifiers.API, monitor);
+		if (delta != null) {
+			if (typeFingerprints == null) {
+				typeFingerprints = fingerprint(classFile, typeName, reference, fingerprints);
+			}
+			if (typeFingerprints != null) {
+				putDelta(typeName, referenceId, componentId, typeFingerprints[0], typeFingerprints[1], delta);
+			}
+		}
+		return delta;
+	}
+
+	/**
+	 * Computes the fingerprints of the baseline and the workspace version of
+	 * the given type.
+	 *
+	 * @return the fingerprints of the baseline and the workspace version, or
+	 *         <code>null</code> if the type cannot be fingerprinted, in which
+	 *         case its delta is not cached
+	 */
+	private static long[] fingerprint(IApiTypeRoot classFile, String typeName, IApiComponent reference, Map<String, Long> fingerprints) {
+		try {
+			IApiTypeRoot referenceClassFile = reference.findTypeRoot(typeName, reference.getSymbolicName());
+			IApiType referenceType = referenceClassFile == null ? null : referenceClassFile.getStructure();
+			IApiType type = classFile.getStructure();
+			return new long[] {
+					referenceType == null ? 0L : fingerprint(referenceType, fingerprints),
+					type == null ? 0L : fingerprint(type, fingerprints) };
+		} catch (CoreException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return the number of cached deltas
+	 */
+	public synchronized int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * Computes the fingerprint of the given type. Types of system libraries are
+	 * identified by the version of their library rather than by their
+	 * contents.
+	 *
+	 * @param type the type
+	 * @param computed the fingerprints computed so far, keyed by component
+	 *            version and type name, shared between the types of one
+	 *            analysis
+	 * @return the fingerprint of the type
+	 * @throws CoreException if the type or one of its member types cannot be
+	 *             read
+	 */
+	public static long fingerprint(IApiType type, Map<String, Long> computed) throws CoreException {
+		IApiComponent component = type.getApiComponent();
+		String componentId = Util.getComponentVersionsId(component);
+		String key = componentId + '/' + type.getName();
+		Long known = computed.get(key);
+		if (known != null) {
+			return known.longValue();
+		}
+		// guards against cycles in broken hierarchies
+		computed.put(key, Long.valueOf(0L));
+		CRC32 crc = new CRC32();
+		CRC32C crcc = new CRC32C();
+		update(crc, crcc, type.getName());
+		if (component.isSystemComponent()) {
+			update(crc, crcc, componentId);
+		} else {
+			IApiTypeRoot root = type.getTypeRoot();
+			if (root instanceof AbstractApiTypeRoot typeRoot) {
+				byte[] contents = typeRoot.getContents();
+				crc.update(contents);
+				crcc.update(contents);
+			}
+			IApiDescription description = component.getApiDescription();
+			update(crc, crcc, description.resolveAnnotations(type.getHandle()));
+			for (IApiMethod method : type.getMethods()) {
+				update(crc, crcc, description.resolveAnnotations(method.getHandle()));
+				String[] exceptionNames = method.getExceptionNames();
+				if (exceptionNames != null) {
+					for (String exceptionName : exceptionNames) {
+						update(crc, crcc, exceptionFingerprint(component, componentId, exceptionName, computed));
+					}
+				}
+			}
+			for (IApiField field : type.getFields()) {
+				update(crc, crcc, description.resolveAnnotations(field.getHandle()));
+			}
+			for (IApiType member : type.getMemberTypes()) {
+				update(crc, crcc, fingerprint(member, computed));
+			}
+			// only the annotations, the enclosing type includes the
+			// fingerprints of its member types
+			for (IApiType enclosing = type.getEnclosingType(); enclosing != null; enclosing = enclosing.getEnclosingType()) {
+				update(crc, crcc, description.resolveAnnotations(enclosing.getHandle()));
+			}
+		}
+		if (type.getSuperclassName() != null) {
+			try {
+				IApiType superclass = type.getSuperclass();
+				update(crc, crcc, superclass == null ? 0L : fingerprint(superclass, computed));
+			} catch (CoreException e) {
+				// unresolved super types are part of the fingerprint by name
+				update(crc, crcc, type.getSuperclassName());
+			}
+		}
+		try {
+			for (IApiType superinterface : type.getSuperInterfaces()) {
+				update(crc, crcc, fingerprint(superinterface, computed));
+			}
+		} catch (CoreException e) {
+			for (String name : type.getSuperInterfaceNames()) {
+				update(crc, crcc, name);
+			}
+		}
+		long fingerprint = crc.getValue() << 32 | crcc.getValue();
+		computed.put(key, Long.valueOf(fingerprint));
+		return fingerprint;
+	}
+
+	/**
+	 * Computes the fingerprint of the superclass chain of the given exception
+	 * type as resolved from the given component, which tells the class file
+	 * comparator whether the exception is checked.
+	 *
+	 * @param component the component of the method throwing the exception
+	 * @param componentId the version id of the component
+	 * @param exceptionName the name of the exception type
+	 * @param computed the fingerprints computed so far
+	 * @return the fingerprint of the names of the exception type and its
+	 *         resolved superclasses
+	 */
+	private static long exceptionFingerprint(IApiComponent component, String componentId, String exceptionName, Map<String, Long> computed) {
+		String key = componentId + "/throws " + exceptionName; //$NON-NLS-1$
+		Long known = computed.get(key);
+		if (known != null) {
+			return known.longValue();
+		}
+		CRC32 crc = new CRC32();
+		CRC32C crcc = new CRC32C();
+		Set<String> visited = new HashSet<>();
+		String name = exceptionName;
+		try {
+			IApiBaseline baseline = component.getBaseline();
+			// same lookup as ClassFileComparator#isCheckedException
+			while (name != null && visited.add(name)) {
+				update(crc, crcc, name);
+				if (baseline == null || Util.isJavaLangObject(name)) {
+					break;
+				}
+				IApiTypeRoot root = Util.getClassFile(baseline.resolvePackage(component, Signatures.getPackageName(name)), name);
+				IApiType exception = root == null ? null : root.getStructure();
+				name = exception == null ? null : exception.getSuperclassName();
+			}
+		} catch (CoreException e) {
+			// the chain is part of the fingerprint up to the failed lookup
+			update(crc, crcc, -1L);
+		}
+		long fingerprint = crc.getValue() << 32 | crcc.getValue();
+		computed.put(key, Long.valueOf(fingerprint));
+		return fingerprint;
+	}
+
+	private static void update(Checksum crc, Checksum crcc, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		crc.update(bytes, 0, bytes.length);
+		crcc.update(bytes, 0, bytes.length);
+	}
+
+	private static void update(Checksum crc, Checksum crcc, long value) {
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			crc.update((int) (value >>> shift));
+			crcc.update((int) (value >>> shift));
+		}
+	}
+
+	private static void update(Checksum crc, Checksum crcc, IApiAnnotations annotations) {
+		if (annotations == null) {
+			update(crc, crcc, -1L);
+		} else {
+			update(crc, crcc, (long) annotations.getVisibility() << 32 | annotations.getRestrictions());
+		}
+	}
+
+	/**
+	 * Reads a delta cache written by {@link #write(DeltaCache, DataOutputStream)}
+	 */
+	static DeltaCache read(DataInputStream in) throws IOException {
+		DeltaCache cache = new DeltaCache();
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			String typeName = in.readUTF();
+			String referenceId = in.readUTF();
+			String componentId = in.readUTF();
+			long referenceFingerprint = in.readLong();
+			long fingerprint = in.readLong();
+			cache.fEntries.put(typeName, new Entry(referenceId, componentId, referenceFingerprint, fingerprint, readDelta(in)));
+		}
+		return cache;
+	}
+
+	/**
+	 * Writes the given delta cache with the build state
+	 */
+	static void write(DeltaCache cache, DataOutputStream out) throws IOException {
+		synchronized (cache) {
+			out.writeInt(cache.fEntries.size());
+			for (Map.Entry<String, Entry> entry : cache.fEntries.entrySet()) {
+				Entry value = entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeUTF(value.fReferenceId);
+				out.writeUTF(value.fComponentId);
+				out.writeLong(value.fReferenceFingerprint);
+				out.writeLong(value.fFingerprint);
+				writeDelta(value.fDelta, out);
+			}
+		}
+	}
+
+	/**
+	 * Writes a delta and its children. Unlike the changes of the build state
+	 * the whole tree is kept, including component ids and previous
+	 * restrictions.
+	 */
+	private static void writeDelta(IDelta delta, DataOutputStream out) throws IOException {
+		if (delta == ApiComparator.NO_DELTA) {
+			out.writeByte(NO_DELTA);
+			return;
+		}
+		// only the root delta of a comparison has no type name
+		if (delta.getTypeName() == null) {
+			out.writeByte(ROOT_DELTA);
+		} else {
+			out.writeByte(DELTA);
+			writeString(delta.getComponentVersionId(), out);
+			out.writeInt(delta.getElementType());
+			out.writeInt(delta.getKind());
+			out.writeInt(delta.getFlags());
+			out.writeInt(delta.getCurrentRestrictions());
+			out.writeInt(delta.getPreviousRestrictions());
+			out.writeInt(delta.getOldModifiers());
+			out.writeInt(delta.getNewModifiers());
+			out.writeUTF(delta.getTypeName());
+			writeString(delta.getKey(), out);
+			String[] arguments = delta.getArguments();
+			out.writeInt(arguments == null ? -1 : arguments.length);
+			if (arguments != null) {
+				for (String argument : arguments) {
+					writeString(argument, out);
+				}
+			}
+		}
+		IDelta[] children = delta.getChildren();
+		out.writeInt(children.length);
+		for (IDelta child : children) {
+			writeDelta(child, out);
+		}
+	}
+
+	private static IDelta readDelta(DataInputStream in) throws IOException {
+		byte kind = in.readByte();
+		Delta delta;
+		switch (kind) {
+			case NO_DELTA:
+				return ApiComparator.NO_DELTA;
+			case ROOT_DELTA:
+				delta = new Delta();
+				break;
+			case DELTA:
+				String componentId = readString(in);
+				int elementType = in.readInt();
+				int deltaKind = in.readInt();
+				int flags = in.readInt();
+				int restrictions = in.readInt();
+				int previousRestrictions = in.readInt();
+				int oldModifiers = in.readInt();
+				int newModifiers = in.readInt();
+				String typeName = in.readUTF();
+				String key = readString(in);
+				int length = in.readInt();
+				String[] arguments = null;
+				if (length >= 0) {
+					arguments = new String[length];
+					for (int i = 0; i < length; i++) {
+						arguments[i] = readString(in);
+					}
+				}
+				delta = new Delta(componentId, elementType, deltaKind, flags, restrictions, previousRestrictions, oldModifiers, newModifiers, typeName, key, arguments);
+				break;
+			default:
+				throw new IOException(BuilderMessages.build_wrongFileFormat);
+		}
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			delta.add(readDelta(in));
+		}
+		return delta;
+	}
+
+	private static void writeString(String value, DataOutputStream out) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
@@ -101,7 +101,7 @@ public class Reference implements IReference {
 	/**
 	 * Resolved reference or <code>null</code>
 	 */
-	private IApiMember fResolved;
+	private volatile IApiMember fResolved;
 
 	/**
 	 * Resolvable status
@@ -359,7 +359,7 @@ public class Reference implements IReference {
 		return paramList;
 	}
 
-	public void resolve() throws CoreException {
+	public synchronized void resolve() throws CoreException {
 		if (!this.fStatus) {
 			return;
 		}
@@ -637,7 +637,7 @@ public class Reference implements IReference {
 	 *
 	 * @param resolution resolved reference
 	 */
-	public void setResolution(IApiMember resolution) {
+	public synchronized void setResolution(IApiMember resolution) {
 		fResolved = resolution;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,10 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -31,6 +35,65 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
  */
 public final class ReferenceResolver {
 
+	/**
+	 * System property to set the default number of threads used to resolve
+	 * references, the references are resolved by the calling thread if unset
+	 * or less than 2.
+	 */
+	public static final String PARALLELISM_PROPERTY = "org.eclipse.pde.api.tools.referenceResolver.parallelism"; //$NON-NLS-1$
+
+	/**
+	 * The number of elements below which a fork-join task resolves its
+	 * elements rather than forking
+	 */
+	static final int SPLIT_THRESHOLD = 256;
+
+	/**
+	 * Resolves a single element of a partition
+	 */
+	@FunctionalInterface
+	private interface Resolver<T> {
+		void resolve(T element) throws CoreException;
+	}
+
+	/**
+	 * Fork-join task resolving a range of a list of elements. The first
+	 * {@link CoreException} is remembered and stops the remaining tasks.
+	 */
+	private static final class ResolveTask<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<T> fElements;
+		private final int fStart;
+		private final int fEnd;
+		private final Resolver<T> fResolver;
+		private final AtomicReference<CoreException> fFailure;
+
+		ResolveTask(List<T> elements, int start, int end, Resolver<T> resolver, AtomicReference<CoreException> failure) {
+			fElements = elements;
+			fStart = start;
+			fEnd = end;
+			fResolver = resolver;
+			fFailure = failure;
+		}
+
+		@Override
+		protected void compute() {
+			if (fEnd - fStart > SPLIT_THRESHOLD) {
+				int middle = (fStart + fEnd) >>> 1;
+				invokeAll(new ResolveTask<>(fElements, fStart, middle, fResolver, fFailure), new ResolveTask<>(fElements, middle, fEnd, fResolver, fFailure));
+				return;
+			}
+			for (int i = fStart; i < fEnd && fFailure.get() == null; i++) {
+				try {
+					fResolver.resolve(fElements.get(i));
+				} catch (CoreException e) {
+					fFailure.compareAndSet(null, e);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Constructor Private constructor, no instantiate
 	 */
@@ -38,29 +101,44 @@ public final class ReferenceResolver {
 	}
 
 	/**
-	 * Resolves retained references.
+	 * Resolves retained references, using the number of threads set by the
+	 * {@link #PARALLELISM_PROPERTY} system property.
 	 *
 	 * @param references list of {@link IReference} to resolve
 	 * @throws CoreException if something goes wrong
 	 */
 	public static void resolveReferences(List<IReference> references) throws CoreException {
+		resolveReferences(references, Integer.getInteger(PARALLELISM_PROPERTY, 1).intValue());
+	}
+
+	/**
+	 * Resolves retained references. References to the same member are
+	 * resolved once, the unique references are partitioned across a fork-join
+	 * pool of the given size.
+	 *
+	 * @param references list of {@link IReference} to resolve
+	 * @param parallelism the maximum number of threads to resolve the
+	 *            references with, a value less than 2 resolves the references
+	 *            in the calling thread
+	 * @throws CoreException if something goes wrong
+	 */
+	public static void resolveReferences(List<IReference> references, int parallelism) throws CoreException {
 		// sort references by target type for 'shared' resolution
 		int refcount = references.size();
-		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
+		Map<SignatureKey, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
 
 		List<IReference> refs = null;
-		String key = null;
+		SignatureKey key = new SignatureKey();
 		List<Reference> methodDecls = new ArrayList<>(refcount);
 		long start = System.currentTimeMillis();
 		for (IReference ref : references) {
 			if (ref.getReferenceKind() == IReference.REF_OVERRIDE) {
 				methodDecls.add((Reference) ref);
 			} else {
-				key = createSignatureKey(ref);
-				refs = sigtoref.get(key);
+				refs = sigtoref.get(key.set(ref));
 				if (refs == null) {
 					refs = new ArrayList<>(20);
-					sigtoref.put(key, refs);
+					sigtoref.put(key.copy(), refs);
 				}
 				refs.add(ref);
 			}
@@ -70,70 +148,157 @@ public final class ReferenceResolver {
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: split into " + methodDecls.size() + " method overrides and " + sigtoref.size() + " unique references (" + (end - start) + "ms)"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$ //$NON-NLS-4$
 		}
-		// resolve references
-		start = System.currentTimeMillis();
-		resolveReferenceSets(sigtoref);
-		end = System.currentTimeMillis();
-		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+		ForkJoinPool pool = null;
+		if (parallelism > 1 && Math.max(sigtoref.size(), methodDecls.size()) > SPLIT_THRESHOLD) {
+			pool = new ForkJoinPool(parallelism);
 		}
-		// resolve method overrides
-		start = System.currentTimeMillis();
-		for (Reference reference : methodDecls) {
-			reference.resolve();
+		try {
+			// resolve references
+			start = System.currentTimeMillis();
+			resolve(pool, new ArrayList<>(sigtoref.values()), ReferenceResolver::resolveReferenceSet);
+			end = System.currentTimeMillis();
+			if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
+				System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms" + (pool == null ? "" : " using " + parallelism + " threads")); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			}
+			// resolve method overrides
+			start = System.currentTimeMillis();
+			resolve(pool, methodDecls, Reference::resolve);
+			end = System.currentTimeMillis();
+			if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
+				System.out.println("Reference resolver: resolved method overrides in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			}
+		} finally {
+			if (pool != null) {
+				pool.shutdown();
+			}
 		}
-		end = System.currentTimeMillis();
-		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved method overrides in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+	}
+
+	/**
+	 * Resolves the given elements, in the given pool if any or in the calling
+	 * thread otherwise.
+	 *
+	 * @param pool the pool to resolve in or <code>null</code>
+	 * @param elements the elements to resolve
+	 * @param resolver resolves a single element
+	 * @throws CoreException the first exception thrown by the resolver
+	 */
+	private static <T> void resolve(ForkJoinPool pool, List<T> elements, Resolver<T> resolver) throws CoreException {
+		if (pool == null || elements.size() <= SPLIT_THRESHOLD) {
+			for (T element : elements) {
+				resolver.resolve(element);
+			}
+			return;
+		}
+		AtomicReference<CoreException> failure = new AtomicReference<>();
+		pool.invoke(new ResolveTask<>(elements, 0, elements.size(), resolver, failure));
+		CoreException e = failure.get();
+		if (e != null) {
+			throw e;
 		}
 	}
 
 	/**
-	 * Resolves the collect sets of references.
+	 * Resolves a set of references to the same member. The first reference is
+	 * resolved and its resolution is shared with the others.
 	 *
-	 * @param map the mapping of keys to sets of {@link IReference}s
+	 * @param refs the references with the same signature key
 	 * @throws CoreException if something bad happens
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
-			if (resolved != null) {
-				for (IReference ref2 : refs) {
-					((Reference) ref2).setResolution(resolved);
-				}
+	private static void resolveReferenceSet(List<IReference> refs) throws CoreException {
+		IReference ref = refs.get(0);
+		((Reference) ref).resolve();
+		IApiMember resolved = ref.getResolvedReference();
+		if (resolved != null) {
+			for (IReference ref2 : refs) {
+				((Reference) ref2).setResolution(resolved);
 			}
 		}
 	}
 
 	/**
-	 * Creates a unique string key for a given reference. The key is of the form
-	 * "component X references type/member"
+	 * Key of the references to the same type or member from the same
+	 * component. Equivalent to a string key of the form
 	 *
 	 * <pre>
 	 * [component_id]#[type_name](#[member_name]#[member_signature])
 	 * </pre>
 	 *
-	 * @param reference reference
-	 * @return a string key for the given reference.
+	 * but composed of the names already held by the reference, so that a
+	 * single probe key can be reused to look up the references of a group and
+	 * a key is only allocated for each unique reference.
 	 */
-	private static String createSignatureKey(IReference reference) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
-		buffer.append("#"); //$NON-NLS-1$
-		buffer.append(reference.getReferencedTypeName());
-		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-
-		} else if (reference.getReferenceType() == IReference.T_METHOD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedSignature());
+	static final class SignatureKey {
+		private String fComponent;
+		private String fTypeName;
+		private String fMemberName;
+		private String fSignature;
+		private int fHash;
+
+		/**
+		 * Sets this key to the key of the given reference
+		 *
+		 * @param reference reference
+		 * @return this key
+		 */
+		SignatureKey set(IReference reference) {
+			fComponent = reference.getMember().getApiComponent().getSymbolicName();
+			fTypeName = reference.getReferencedTypeName();
+			fMemberName = null;
+			fSignature = null;
+			if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
+				fMemberName = reference.getReferencedMemberName();
+			} else if (reference.getReferenceType() == IReference.T_METHOD_REFERENCE) {
+				fMemberName = reference.getReferencedMemberName();
+				fSignature = reference.getReferencedSignature();
+			}
+			int hash = Objects.hashCode(fComponent);
+			hash = 31 * hash + Objects.hashCode(fTypeName);
+			hash = 31 * hash + Objects.hashCode(fMemberName);
+			fHash = 31 * hash + Objects.hashCode(fSignature);
+			return this;
+		}
+
+		/**
+		 * @return a new key equal to this key
+		 */
+		SignatureKey copy() {
+			SignatureKey copy = new SignatureKey();
+			copy.fComponent = fComponent;
+			copy.fTypeName = fTypeName;
+			copy.fMemberName = fMemberName;
+			copy.fSignature = fSignature;
+			copy.fHash = fHash;
+			return copy;
+		}
+
+		@Override
+		public int hashCode() {
+			return fHash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof SignatureKey other) {
+				return fHash == other.fHash && Objects.equals(fTypeName, other.fTypeName) && Objects.equals(fMemberName, other.fMemberName) && Objects.equals(fSignature, other.fSignature) && Objects.equals(fComponent, other.fComponent);
+			}
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder buffer = new StringBuilder();
+			buffer.append(fComponent).append('#').append(fTypeName);
+			if (fMemberName != null) {
+				buffer.append('#').append(fMemberName);
+			}
+			if (fSignature != null) {
+				buffer.append('#').append(fSignature);
+			}
+			return buffer.toString();
 		}
-		return buffer.toString();
 	}
 }
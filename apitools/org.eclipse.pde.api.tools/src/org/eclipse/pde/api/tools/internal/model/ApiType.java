@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -217,6 +217,13 @@ public class ApiType extends ApiMember implements IApiType {
 		return field;
 	}
 
+	/**
+	 * @return the number of fields and methods of this type
+	 */
+	int getMemberCount() {
+		return (fFields == null ? 0 : fFields.size()) + (fMethods == null ? 0 : fMethods.size());
+	}
+
 	@Override
 	public IApiMethod getMethod(String name, String signature) {
 		if (fMethods != null) {
@@ -426,6 +433,32 @@ public class ApiType extends ApiMember implements IApiType {
 		}
 	}
 
+	/**
+	 * Returns the name of the method enclosing this type as read from the
+	 * class file, an empty string if the type has no enclosing method or
+	 * <code>null</code> if it has not been computed.
+	 */
+	String getEnclosingMethodName() {
+		return fEnclosingMethodName;
+	}
+
+	/**
+	 * Returns the signature of the method enclosing this type as read from the
+	 * class file, an empty string if the type has no enclosing method or
+	 * <code>null</code> if it has not been computed.
+	 */
+	String getEnclosingMethodSignature() {
+		return fEnclosingMethodSignature;
+	}
+
+	/**
+	 * Returns the name of the enclosing type as read from the class file or
+	 * <code>null</code> if none.
+	 */
+	String getEnclosingTypeName() {
+		return fEnclosingTypeName;
+	}
+
 	@Override
 	public IApiMethod getEnclosingMethod() {
 		if (fEnclosingMethod == null) {
@@ -514,6 +547,17 @@ public class ApiType extends ApiMember implements IApiType {
 		fMemberTypes.put(simpleName, null);
 	}
 
+	/**
+	 * Returns the simple names of the member types of this type or
+	 * <code>null</code> if none.
+	 */
+	String[] getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return null;
+		}
+		return fMemberTypes.keySet().toArray(String[]::new);
+	}
+
 	@Override
 	public IApiType getMemberType(String simpleName) throws CoreException {
 		if (fMemberTypes == null) {
@@ -522,8 +566,13 @@ public class ApiType extends ApiMember implements IApiType {
 		if (getApiComponent() == null) {
 			requiresApiComponent();
 		}
-		if (fMemberTypes.containsKey(simpleName)) {
-			IApiTypeRoot file = fMemberTypes.get(simpleName);
+		IApiTypeRoot file;
+		// member types can be resolved by several reference resolver threads
+		synchronized (fMemberTypes) {
+			if (!fMemberTypes.containsKey(simpleName)) {
+				return null;
+			}
+			file = fMemberTypes.get(simpleName);
 			if (file == null) {
 				// resolve
 				StringBuilder qName = new StringBuilder();
@@ -537,9 +586,8 @@ public class ApiType extends ApiMember implements IApiType {
 				}
 				fMemberTypes.put(simpleName, file);
 			}
-			return file.getStructure();
 		}
-		return null;
+		return file.getStructure();
 	}
 
 	@Override
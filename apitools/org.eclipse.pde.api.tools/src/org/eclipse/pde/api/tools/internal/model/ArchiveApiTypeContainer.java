@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -25,7 +27,10 @@ import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
@@ -87,6 +92,22 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
+				MappedArchive mapped = archive.getMappedArchive();
+				if (mapped != null) {
+					MappedArchive.Entry entry = mapped.getEntry(getTypeName());
+					if (entry == null) {
+						abort("Class file not found: " + getTypeName() + " in archive: " + archive.fLocation, null); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					// ASM only reads arrays, copy the slice of stored entries
+					ByteBuffer buffer = mapped.getContents(entry);
+					if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.remaining() == buffer.array().length) {
+						fContents = buffer.array();
+					} else {
+						fContents = new byte[buffer.remaining()];
+						buffer.get(fContents);
+					}
+					return fContents;
+				}
 				Path location = archive.getLocation();
 				Path classLocation = location.resolve(getName());
 				fContents = Files.readAllBytes(classLocation);
@@ -96,12 +117,37 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			return fContents;
 		}
 
+		@Override
+		protected IApiType buildStructure() throws CoreException {
+			TypeStructureIndex index = ((ArchiveApiTypeContainer) getParent()).getTypeStructureIndex();
+			if (index != null) {
+				IApiType type = index.getType(getTypeName(), getApiComponent(), this);
+				if (type != null) {
+					return type;
+				}
+			}
+			IApiType type = super.buildStructure();
+			if (index != null && type instanceof ApiType apiType) {
+				index.addType(apiType);
+			}
+			return type;
+		}
+
 		@Override
 		public String toString() {
 			return getTypeName();
 		}
 	}
 
+	/**
+	 * System property to disable serving the class files of archives from
+	 * memory-mapped files, in which case archives are read through a zip file
+	 * system
+	 */
+	public static final String MAPPED_ARCHIVES_PROPERTY = "org.eclipse.pde.api.tools.mappedArchives"; //$NON-NLS-1$
+
+	private static final boolean MAPPED_ARCHIVES = Boolean.parseBoolean(System.getProperty(MAPPED_ARCHIVES_PROPERTY, Boolean.TRUE.toString()));
+
 	/**
 	 * Location of the archive in the local file system.
 	 */
@@ -113,11 +159,26 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private Map<String, Map<String, String>> fPackages;
 
+	/**
+	 * The memory-mapped archive replacing {@link #fPackages}, or
+	 * <code>null</code> if not yet initialized or if the archive is read
+	 * through a zip file system.
+	 */
+	private MappedArchive fMappedArchive;
+
 	/**
 	 * Cache of package names in this archive.
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Persistent index of the type structures of this archive, or
+	 * <code>null</code> if not yet opened or if the archive cannot be indexed.
+	 */
+	private TypeStructureIndex fTypeStructureIndex;
+
+	private boolean fTypeStructureIndexOpened;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -154,6 +215,21 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	public void accept(ApiTypeContainerVisitor visitor) throws CoreException {
 		if (visitor.visit(this)) {
 			init();
+			MappedArchive mapped = getMappedArchive();
+			if (mapped != null) {
+				for (String pkg : mapped.getPackageNames()) {
+					if (visitor.visitPackage(pkg)) {
+						for (MappedArchive.Entry entry : mapped.getEntries(pkg)) {
+							ArchiveApiTypeRoot classfile = new ArchiveApiTypeRoot(this, entry.fTypeName, entry.fName);
+							visitor.visit(pkg, classfile);
+							visitor.end(pkg, classfile);
+						}
+						visitor.endVisitPackage(pkg);
+					}
+				}
+				visitor.end(this);
+				return;
+			}
 			for (Map.Entry<String, Map<String, String>> entry : fPackages.entrySet()) {
 				String pkg = entry.getKey();
 				if (visitor.visitPackage(pkg)) {
@@ -185,7 +261,48 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		if (fTypeStructureIndex != null) {
+			fTypeStructureIndex.save();
+		}
+		// type roots keep copies of their contents, the mapping is released
+		// once the archive is garbage collected and mapped again on next use
+		fMappedArchive = null;
+	}
+
+	/**
+	 * Returns the persistent index of the type structures of this archive,
+	 * opening it on first access. Only archives of API baselines are indexed,
+	 * not the libraries of workspace projects and the target bundles of the
+	 * workspace baseline.
+	 *
+	 * @return the index or <code>null</code> if this archive cannot be indexed
+	 */
+	@SuppressWarnings("restriction")
+	synchronized TypeStructureIndex getTypeStructureIndex() {
+		if (!fTypeStructureIndexOpened) {
+			fTypeStructureIndexOpened = true;
+			if (!fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR) && isBaselineArchive()) {
+				fTypeStructureIndex = TypeStructureIndex.open(new File(fLocation));
+			}
+		}
+		return fTypeStructureIndex;
+	}
+
+	/**
+	 * @return whether this archive belongs to a component of an API baseline
+	 *         other than the workspace baseline
+	 */
+	private boolean isBaselineArchive() {
+		IApiComponent component = getApiComponent();
+		if (component == null || component instanceof ProjectComponent) {
+			return false;
+		}
+		try {
+			IApiBaseline baseline = component.getBaseline();
+			return baseline != null && !(baseline instanceof WorkspaceBaseline);
+		} catch (CoreException e) {
+			return false;
+		}
 	}
 
 	/**
@@ -194,6 +311,11 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	@Override
 	public IApiTypeRoot findTypeRoot(String qualifiedName) throws CoreException {
 		init();
+		MappedArchive mapped = getMappedArchive();
+		if (mapped != null) {
+			MappedArchive.Entry entry = mapped.getEntry(qualifiedName);
+			return entry == null ? null : new ArchiveApiTypeRoot(this, qualifiedName, entry.fName);
+		}
 		String packageName = Signatures.getPackageName(qualifiedName);
 		Map<String, String> classFileNames = fPackages.get(packageName);
 		if (classFileNames != null) {
@@ -213,17 +335,49 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		init();
 		synchronized (this) {
 			if (fPackageNames == null) {
-				fPackageNames = fPackages.keySet().toArray(String[]::new);
+				fPackageNames = (fMappedArchive != null ? fMappedArchive.getPackageNames() : fPackages.keySet()).toArray(String[]::new);
 			}
 			return fPackageNames;
 		}
 	}
 
 	/**
-	 * Initializes cache of packages and types.
+	 * @return the memory-mapped archive or <code>null</code> if the archive is
+	 *         read through a zip file system, only valid after {@link #init()}
+	 */
+	private synchronized MappedArchive getMappedArchive() {
+		return fMappedArchive;
+	}
+
+	/**
+	 * Returns whether the class files of this archive are served from a
+	 * memory-mapped file. Libraries of workspace projects are read through a
+	 * zip file system since they are rewritten by builds, which a live mapping
+	 * prevents on some platforms.
+	 *
+	 * @return <code>true</code> for plain archives of baseline and target
+	 *         components
+	 */
+	@SuppressWarnings("restriction")
+	private boolean isMappable() {
+		return MAPPED_ARCHIVES && !fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)
+				&& !(getApiComponent() instanceof ProjectComponent);
+	}
+
+	/**
+	 * Initializes cache of packages and types. Plain archives of baseline and
+	 * target components are mapped, the class files of a package are only
+	 * indexed on first lookup in that package.
 	 */
 	private synchronized void init() throws CoreException {
-		if (fPackages == null) {
+		if (fPackages == null && fMappedArchive == null && isMappable()) {
+			try {
+				fMappedArchive = MappedArchive.open(Path.of(fLocation));
+			} catch (IOException e) {
+				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
+			}
+		}
+		if (fPackages == null && fMappedArchive == null) {
 			fPackages = new TreeMap<>();
 			try {
 				Path location = getLocation();
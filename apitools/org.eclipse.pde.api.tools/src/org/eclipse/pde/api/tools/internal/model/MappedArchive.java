@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Read-only view of the class files of a memory-mapped zip archive.
+ * <p>
+ * Opening the archive only scans its central directory to group the headers
+ * of the class file entries by package. The class names of a package are
+ * decoded on the first lookup in that package, and class file contents are
+ * served from the mapped file without going through a zip file system.
+ * </p>
+ * <p>
+ * Archives that cannot be mapped in one buffer and zip64 archives are not
+ * supported, {@link #open(Path)} returns <code>null</code> for them.
+ * </p>
+ */
+final class MappedArchive {
+
+	/**
+	 * A class file entry of the archive
+	 */
+	static final class Entry {
+		final String fTypeName;
+		final String fName;
+		final int fMethod;
+		final int fLocalHeader;
+		final int fCompressedSize;
+		final int fSize;
+
+		Entry(String typeName, String name, int method, int localHeader, int compressedSize, int size) {
+			fTypeName = typeName;
+			fName = name;
+			fMethod = method;
+			fLocalHeader = localHeader;
+			fCompressedSize = compressedSize;
+			fSize = size;
+		}
+	}
+
+	/**
+	 * Positions of the central directory headers of the class files of one
+	 * package, decoded to entries on first access
+	 */
+	private static final class PackageEntries {
+		int[] fHeaders = new int[8];
+		int fCount;
+		Map<String, Entry> fEntries;
+
+		void add(int header) {
+			if (fCount == fHeaders.length) {
+				fHeaders = Arrays.copyOf(fHeaders, fCount * 2);
+			}
+			fHeaders[fCount++] = header;
+		}
+	}
+
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int CENTRAL_SIGNATURE = 0x02014b50;
+	private static final int LOCAL_SIGNATURE = 0x04034b50;
+	private static final int END_SIZE = 22;
+	private static final int CENTRAL_SIZE = 46;
+	private static final int LOCAL_SIZE = 30;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	private static final byte[] CLASS_SUFFIX = Util.DOT_CLASS_SUFFIX.getBytes(StandardCharsets.US_ASCII);
+
+	private final String fLocation;
+
+	/**
+	 * The mapped archive, only accessed with absolute reads so that it can be
+	 * shared by threads
+	 */
+	private final ByteBuffer fBuffer;
+
+	/**
+	 * Package names to the class files in that package, sorted by package
+	 * name
+	 */
+	private final TreeMap<String, PackageEntries> fPackages = new TreeMap<>();
+
+	private MappedArchive(String location, ByteBuffer buffer) {
+		fLocation = location;
+		fBuffer = buffer;
+	}
+
+	/**
+	 * Maps the given archive and scans its central directory.
+	 *
+	 * @param archive the archive file
+	 * @return the mapped archive or <code>null</code> if the archive is not
+	 *         supported
+	 * @throws IOException if the archive cannot be read or is corrupt
+	 */
+	static MappedArchive open(Path archive) throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < END_SIZE || size > Integer.MAX_VALUE) {
+				return null;
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		MappedArchive mapped = new MappedArchive(archive.toString(), buffer);
+		return mapped.scanCentralDirectory() ? mapped : null;
+	}
+
+	/**
+	 * Groups the class file headers of the central directory by package.
+	 *
+	 * @return <code>false</code> if this archive is a zip64 archive
+	 */
+	private boolean scanCentralDirectory() throws IOException {
+		int end = findEndOfCentralDirectory();
+		int count = getShort(end + 10);
+		long offset = getInt(end + 16);
+		if (count == 0xFFFF || offset == 0xFFFFFFFFL) {
+			return false;
+		}
+		int header = (int) offset;
+		PackageEntries previous = null;
+		int previousStart = -1;
+		int previousLength = -1;
+		for (int i = 0; i < count; i++) {
+			if (header + CENTRAL_SIZE > fBuffer.limit() || fBuffer.getInt(header) != CENTRAL_SIGNATURE) {
+				throw new IOException("Invalid central directory header in archive: " + fLocation); //$NON-NLS-1$
+			}
+			int nameLength = getShort(header + 28);
+			int nameStart = header + CENTRAL_SIZE;
+			if (endsWith(nameStart, nameLength, CLASS_SUFFIX)) {
+				int packageLength = lastIndexOf(nameStart, nameLength, '/');
+				// entries of a package are usually next to each other, only
+				// decode the package name when it changes
+				if (previous == null || !regionMatches(previousStart, previousLength, nameStart, packageLength)) {
+					String packageName = packageLength <= 0 ? "" : decode(nameStart, packageLength).replace('/', '.'); //$NON-NLS-1$
+					previous = fPackages.computeIfAbsent(packageName, p -> new PackageEntries());
+					previousStart = nameStart;
+					previousLength = packageLength;
+				}
+				previous.add(header);
+			}
+			header = nameStart + nameLength + getShort(header + 30) + getShort(header + 32);
+		}
+		return true;
+	}
+
+	private int findEndOfCentralDirectory() throws IOException {
+		int limit = Math.max(0, fBuffer.limit() - END_SIZE - 0xFFFF);
+		for (int i = fBuffer.limit() - END_SIZE; i >= limit; i--) {
+			if (fBuffer.getInt(i) == END_SIGNATURE) {
+				return i;
+			}
+		}
+		throw new IOException("Missing end of central directory in archive: " + fLocation); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the names of the packages containing class files, sorted
+	 */
+	Collection<String> getPackageNames() {
+		return Collections.unmodifiableSet(fPackages.keySet());
+	}
+
+	/**
+	 * Returns the class files of the given package, decoding their names on
+	 * first access.
+	 *
+	 * @param packageName the name of the package
+	 * @return the class files sorted by type name or <code>null</code> if the
+	 *         package has no class files in this archive
+	 */
+	Collection<Entry> getEntries(String packageName) {
+		Map<String, Entry> entries = getPackageEntries(packageName);
+		return entries == null ? null : entries.values();
+	}
+
+	/**
+	 * Returns the class file of the given type.
+	 *
+	 * @param typeName the qualified name of the type
+	 * @return the class file or <code>null</code> if none
+	 */
+	Entry getEntry(String typeName) {
+		Map<String, Entry> entries = getPackageEntries(Signatures.getPackageName(typeName));
+		return entries == null ? null : entries.get(typeName);
+	}
+
+	private Map<String, Entry> getPackageEntries(String packageName) {
+		PackageEntries packageEntries = fPackages.get(packageName);
+		if (packageEntries == null) {
+			return null;
+		}
+		synchronized (packageEntries) {
+			if (packageEntries.fEntries == null) {
+				Map<String, Entry> entries = new TreeMap<>();
+				for (int i = 0; i < packageEntries.fCount; i++) {
+					Entry entry = decodeEntry(packageEntries.fHeaders[i]);
+					entries.put(entry.fTypeName, entry);
+				}
+				packageEntries.fEntries = Collections.unmodifiableMap(entries);
+				packageEntries.fHeaders = null;
+			}
+			return packageEntries.fEntries;
+		}
+	}
+
+	private Entry decodeEntry(int header) {
+		int nameLength = getShort(header + 28);
+		String name = decode(header + CENTRAL_SIZE, nameLength);
+		String typeName = name.substring(0, name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+		return new Entry(typeName, name, getShort(header + 10), fBuffer.getInt(header + 42), fBuffer.getInt(header + 20), fBuffer.getInt(header + 24));
+	}
+
+	/**
+	 * Returns the contents of the given class file. Stored entries are served
+	 * as a read-only slice of the mapped archive, deflated entries are
+	 * inflated into a new buffer.
+	 *
+	 * @param entry the class file
+	 * @return the contents, positioned at zero
+	 * @throws IOException if the entry cannot be read
+	 */
+	ByteBuffer getContents(Entry entry) throws IOException {
+		int header = entry.fLocalHeader;
+		if (header < 0 || header + LOCAL_SIZE > fBuffer.limit() || fBuffer.getInt(header) != LOCAL_SIGNATURE) {
+			throw new IOException("Invalid local header of " + entry.fName + " in archive: " + fLocation); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		int data = header + LOCAL_SIZE + getShort(header + 26) + getShort(header + 28);
+		if (entry.fCompressedSize < 0 || data + entry.fCompressedSize > fBuffer.limit()) {
+			throw new IOException("Truncated entry " + entry.fName + " in archive: " + fLocation); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		ByteBuffer compressed = fBuffer.slice(data, entry.fCompressedSize).asReadOnlyBuffer();
+		switch (entry.fMethod) {
+			case STORED:
+				return compressed;
+			case DEFLATED:
+				byte[] contents = new byte[entry.fSize];
+				Inflater inflater = new Inflater(true);
+				try {
+					inflater.setInput(compressed);
+					int length = 0;
+					while (length < contents.length && !inflater.finished()) {
+						int read = inflater.inflate(contents, length, contents.length - length);
+						if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+							break;
+						}
+						length += read;
+					}
+					if (length != contents.length) {
+						throw new IOException("Truncated entry " + entry.fName + " in archive: " + fLocation); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				} catch (DataFormatException e) {
+					throw new IOException("Invalid entry " + entry.fName + " in archive: " + fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+				} finally {
+					inflater.end();
+				}
+				return ByteBuffer.wrap(contents);
+			default:
+				throw new IOException("Unsupported compression method " + entry.fMethod + " of " + entry.fName + " in archive: " + fLocation); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private int getShort(int index) {
+		return fBuffer.getShort(index) & 0xFFFF;
+	}
+
+	private long getInt(int index) {
+		return fBuffer.getInt(index) & 0xFFFFFFFFL;
+	}
+
+	private String decode(int start, int length) {
+		byte[] bytes = new byte[length];
+		fBuffer.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private boolean endsWith(int start, int length, byte[] suffix) {
+		if (length < suffix.length) {
+			return false;
+		}
+		int offset = start + length - suffix.length;
+		for (int i = 0; i < suffix.length; i++) {
+			if (fBuffer.get(offset + i) != suffix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int lastIndexOf(int start, int length, char c) {
+		for (int i = length - 1; i >= 0; i--) {
+			if (fBuffer.get(start + i) == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean regionMatches(int start1, int length1, int start2, int length2) {
+		if (length1 != length2) {
+			return false;
+		}
+		for (int i = 0; i < length1; i++) {
+			if (fBuffer.get(start1 + i) != fBuffer.get(start2 + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
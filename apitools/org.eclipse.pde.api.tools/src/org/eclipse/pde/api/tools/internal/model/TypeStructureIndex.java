@@ -0,0 +1,618 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+
+/**
+ * A persistent index of the {@link ApiType} structures of one archive. The
+ * index is stored in the state location of the API tools plug-in. Loading it
+ * only reads its table of contents, type records are read from the index file
+ * on demand, so that type structures of unchanged archives can be restored
+ * without reading and parsing their class files again. The index file is not
+ * memory-mapped so that it can be replaced while it is open.
+ * <p>
+ * An index is only valid for the content it was built from: it records a
+ * SHA-256 digest of the size and time stamp of the archive and of the names,
+ * CRCs and sizes of its entries, and is discarded when that digest changes.
+ * The index files of archives that no longer exist are deleted the first time
+ * an index is opened in a session.
+ * </p>
+ *
+ * @since 1.3.1300
+ */
+public final class TypeStructureIndex {
+
+	/**
+	 * Name of the folder in the plug-in state location holding the indexes
+	 */
+	static final String INDEX_FOLDER = ".type_structures"; //$NON-NLS-1$
+
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	private static final String TEMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x41505449; // "APTI"
+
+	/**
+	 * Version of the index format, increment when the layout changes
+	 */
+	private static final short VERSION = 2;
+
+	private static final String DIGEST_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+	private static final int DIGEST_LENGTH = 32;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_INT = 1;
+	private static final byte VALUE_LONG = 2;
+	private static final byte VALUE_FLOAT = 3;
+	private static final byte VALUE_DOUBLE = 4;
+	private static final byte VALUE_STRING = 5;
+
+	private static final byte TYPE_ANONYMOUS = 0x1;
+	private static final byte TYPE_LOCAL = 0x2;
+	private static final byte TYPE_MEMBER = 0x4;
+
+	private static boolean fgPurged = false;
+
+	private final File fArchive;
+	private final Path fIndexFile;
+	private final byte[] fArchiveDigest;
+
+	/**
+	 * The channel of the loaded index file or <code>null</code> if none
+	 */
+	private FileChannel fChannel;
+
+	/**
+	 * Type names to encoded position (high 32 bits) and length (low 32 bits)
+	 * of the type records in the file of {@link #fChannel}
+	 */
+	private final Map<String, Long> fStoredTypes = new HashMap<>();
+
+	/**
+	 * Type records added since the index was loaded
+	 */
+	private final Map<String, byte[]> fAddedTypes = new HashMap<>();
+
+	private TypeStructureIndex(File archive, Path indexFile, byte[] archiveDigest) {
+		fArchive = archive;
+		fIndexFile = indexFile;
+		fArchiveDigest = archiveDigest;
+	}
+
+	/**
+	 * Opens the index for the given archive, loading the persisted type
+	 * structures if they are still valid for the current content of the
+	 * archive.
+	 *
+	 * @param archive the archive to open the index for
+	 * @return the index or <code>null</code> if the archive cannot be indexed
+	 */
+	public static TypeStructureIndex open(File archive) {
+		if (!ApiPlugin.isRunningInFramework() || !archive.isFile()) {
+			return null;
+		}
+		Path folder = ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toFile().toPath();
+		synchronized (TypeStructureIndex.class) {
+			if (!fgPurged) {
+				fgPurged = true;
+				purge(folder);
+			}
+		}
+		return open(archive, folder);
+	}
+
+	/**
+	 * Opens the index for the given archive stored in the given folder.
+	 *
+	 * @param archive the archive to open the index for
+	 * @param folder the folder holding the index files
+	 * @return the index or <code>null</code> if the archive cannot be indexed
+	 */
+	public static TypeStructureIndex open(File archive, Path folder) {
+		String path = archive.getAbsolutePath();
+		byte[] digest;
+		try {
+			digest = computeArchiveDigest(archive);
+		} catch (IOException e) {
+			// not a readable archive, nothing to index
+			return null;
+		}
+		Path indexFile = folder.resolve(UUID.nameUUIDFromBytes(path.getBytes(StandardCharsets.UTF_8)) + INDEX_EXTENSION);
+		TypeStructureIndex index = new TypeStructureIndex(archive, indexFile, digest);
+		index.load();
+		return index;
+	}
+
+	/**
+	 * Deletes the index files in the given folder whose archive no longer
+	 * exists, the index files of another format and the temporary files left
+	 * by an interrupted save.
+	 *
+	 * @param folder the folder holding the index files
+	 */
+	public static void purge(Path folder) {
+		if (!Files.isDirectory(folder)) {
+			return;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				if (name.endsWith(INDEX_EXTENSION)) {
+					String archive = readArchivePath(file);
+					if (archive == null || !new File(archive).isFile()) {
+						delete(file);
+					}
+				} else if (name.endsWith(TEMP_EXTENSION)) {
+					delete(file);
+				}
+			}
+		} catch (IOException e) {
+			if (ApiPlugin.DEBUG_BUILDER) {
+				ApiPlugin.log("Failed to purge type structure indexes in: " + folder, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * @return the path of the archive recorded in the header of the given
+	 *         index file or <code>null</code> if the file is not an index of
+	 *         the current format
+	 */
+	private static String readArchivePath(Path indexFile) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+				return null;
+			}
+			in.skipNBytes(DIGEST_LENGTH);
+			return in.readUTF();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// still in use, deleted by a later session
+		}
+	}
+
+	/**
+	 * Computes a digest of the content of the given archive from its size,
+	 * its time stamp and the names, CRCs and sizes of its entries, which only
+	 * requires reading the central directory of the archive.
+	 */
+	static byte[] computeArchiveDigest(File archive) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES);
+		digest.update(buffer.putLong(archive.length()).putLong(archive.lastModified()).flip());
+		try (ZipFile zipFile = new ZipFile(archive)) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+				digest.update(buffer.clear().putLong(entry.getCrc()).putLong(entry.getSize())
+						.putLong(entry.getCompressedSize()).flip());
+			}
+		}
+		return digest.digest();
+	}
+
+	private void load() {
+		if (!Files.isRegularFile(fIndexFile)) {
+			return;
+		}
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(fIndexFile, StandardOpenOption.READ);
+			// the stream is not closed since that would close the channel the
+			// type records are read from
+			DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+				close(channel);
+				return;
+			}
+			byte[] digest = new byte[DIGEST_LENGTH];
+			in.readFully(digest);
+			if (!Arrays.equals(digest, fArchiveDigest) || !fArchive.getAbsolutePath().equals(in.readUTF())) {
+				// stale or foreign index, it will be rewritten on save
+				close(channel);
+				return;
+			}
+			int count = in.readInt();
+			Map<String, Long> types = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				String typeName = in.readUTF();
+				long position = in.readInt();
+				long length = in.readInt();
+				types.put(typeName, Long.valueOf((position << 32) | length));
+			}
+			fStoredTypes.putAll(types);
+			fChannel = channel;
+		} catch (IOException e) {
+			close(channel);
+			if (ApiPlugin.DEBUG_BUILDER) {
+				ApiPlugin.log("Failed to load type structure index for: " + fArchive, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Drops the stored type records and closes the channel of the index file.
+	 */
+	private void release() {
+		fStoredTypes.clear();
+		close(fChannel);
+		fChannel = null;
+	}
+
+	private static void close(FileChannel channel) {
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// nothing to do
+			}
+		}
+	}
+
+	/**
+	 * Returns the type structure with the given name from this index.
+	 *
+	 * @param typeName the fully qualified name of the type
+	 * @param component the API component the type belongs to
+	 * @param root the type root the type is read from
+	 * @return the type or <code>null</code> if the type is not in this index
+	 */
+	public synchronized IApiType getType(String typeName, IApiComponent component, IApiTypeRoot root) {
+		try {
+			byte[] record = fAddedTypes.get(typeName);
+			if (record == null) {
+				Long position = fStoredTypes.get(typeName);
+				if (position == null) {
+					return null;
+				}
+				record = read(position.longValue());
+			}
+			return readType(new DataInputStream(new ByteArrayInputStream(record)), component, root);
+		} catch (IOException e) {
+			ApiPlugin.log("Corrupt type structure index for: " + fArchive, e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the given type structure to this index. The index is persisted the
+	 * next time {@link #save()} is called.
+	 *
+	 * @param type the type to add
+	 */
+	public synchronized void addType(ApiType type) {
+		if (fStoredTypes.containsKey(type.getName())) {
+			return;
+		}
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				writeType(out, type);
+			}
+			fAddedTypes.put(type.getName(), bytes.toByteArray());
+		} catch (IOException e) {
+			// the type cannot be encoded (for instance a signature longer
+			// than 64k), it will be built from the class file
+		}
+	}
+
+	/**
+	 * @return the number of type structures in this index
+	 */
+	public synchronized int size() {
+		return fStoredTypes.size() + fAddedTypes.size();
+	}
+
+	/**
+	 * Writes this index to disk if types have been added since it was loaded.
+	 */
+	public synchronized void save() {
+		if (fAddedTypes.isEmpty()) {
+			return;
+		}
+		// the stored records are copied from the index file which is closed
+		// before it is replaced
+		Map<String, byte[]> records = new TreeMap<>(fAddedTypes);
+		try {
+			for (Map.Entry<String, Long> entry : fStoredTypes.entrySet()) {
+				records.put(entry.getKey(), read(entry.getValue().longValue()));
+			}
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to save type structure index for: " + fArchive, e); //$NON-NLS-1$
+			return;
+		}
+		release();
+		// kept until the index is written so that a failed save loses nothing
+		fAddedTypes.putAll(records);
+		try {
+			Files.createDirectories(fIndexFile.getParent());
+			// the header has the same length for any start of the records
+			byte[] header = createHeader(records, 0);
+			header = createHeader(records, header.length);
+			Path tempFile = Files.createTempFile(fIndexFile.getParent(), "index", TEMP_EXTENSION); //$NON-NLS-1$
+			try {
+				try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+					channel.write(ByteBuffer.wrap(header));
+					for (byte[] record : records.values()) {
+						channel.write(ByteBuffer.wrap(record));
+					}
+				}
+				Files.move(tempFile, fIndexFile, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(tempFile);
+			}
+			fAddedTypes.clear();
+			load();
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to save type structure index for: " + fArchive, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Creates the header of an index file with the given records.
+	 *
+	 * @param records type names to type records, in the order they are
+	 *            written
+	 * @param recordsStart the position of the first record in the file
+	 * @return the header with the table of contents of the records
+	 */
+	private byte[] createHeader(Map<String, byte[]> records, int recordsStart) throws IOException {
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(header)) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.write(fArchiveDigest);
+			out.writeUTF(fArchive.getAbsolutePath());
+			out.writeInt(records.size());
+			int position = recordsStart;
+			for (Map.Entry<String, byte[]> entry : records.entrySet()) {
+				int length = entry.getValue().length;
+				out.writeUTF(entry.getKey());
+				out.writeInt(position);
+				out.writeInt(length);
+				position += length;
+			}
+		}
+		return header.toByteArray();
+	}
+
+	/**
+	 * Reads a type record from the index file.
+	 *
+	 * @param position the encoded position and length of the record
+	 * @return the record
+	 * @throws IOException if the record cannot be read
+	 */
+	private byte[] read(long position) throws IOException {
+		long start = position >>> 32;
+		ByteBuffer record = ByteBuffer.allocate((int) position);
+		while (record.hasRemaining()) {
+			if (fChannel.read(record, start + record.position()) < 0) {
+				throw new EOFException("Truncated type structure index: " + fIndexFile); //$NON-NLS-1$
+			}
+		}
+		return record.array();
+	}
+
+	private static void writeType(DataOutputStream out, ApiType type) throws IOException {
+		out.writeUTF(type.getName());
+		out.writeUTF(type.getSignature());
+		writeString(out, type.getGenericSignature());
+		out.writeInt(type.getModifiers());
+		writeString(out, type.getEnclosingTypeName());
+		writeString(out, type.getSuperclassName());
+		writeStrings(out, type.getSuperInterfaceNames());
+		byte kind = 0;
+		if (type.isAnonymous()) {
+			kind |= TYPE_ANONYMOUS;
+		}
+		if (type.isLocal()) {
+			kind |= TYPE_LOCAL;
+		}
+		if (type.isMemberType()) {
+			kind |= TYPE_MEMBER;
+		}
+		out.writeByte(kind);
+		writeString(out, type.isLocal() || type.isMemberType() ? type.getSimpleName() : null);
+		String enclosingMethodName = type.getEnclosingMethodName();
+		out.writeBoolean(enclosingMethodName != null);
+		if (enclosingMethodName != null) {
+			out.writeUTF(enclosingMethodName);
+			out.writeUTF(type.getEnclosingMethodSignature());
+		}
+		writeStrings(out, type.getMemberTypeNames());
+		IApiField[] fields = type.getFields();
+		out.writeInt(fields.length);
+		for (IApiField field : fields) {
+			out.writeUTF(field.getName());
+			out.writeUTF(field.getSignature());
+			writeString(out, field.getGenericSignature());
+			out.writeInt(field.getModifiers());
+			writeValue(out, field.getConstantValue());
+		}
+		IApiMethod[] methods = type.getMethods();
+		out.writeInt(methods.length);
+		for (IApiMethod method : methods) {
+			out.writeUTF(method.getName());
+			out.writeUTF(method.getSignature());
+			writeString(out, method.getGenericSignature());
+			out.writeInt(method.getModifiers());
+			writeStrings(out, method.getExceptionNames());
+			writeString(out, method.getDefaultValue());
+		}
+	}
+
+	private static ApiType readType(DataInputStream in, IApiComponent component, IApiTypeRoot root) throws IOException {
+		String name = in.readUTF();
+		String signature = in.readUTF();
+		String genericSignature = readString(in);
+		int modifiers = in.readInt();
+		String enclosingName = readString(in);
+		ApiType type = new ApiType(component, name, signature, genericSignature, modifiers, enclosingName, root);
+		type.setSuperclassName(readString(in));
+		type.setSuperInterfaceNames(readStrings(in));
+		byte kind = in.readByte();
+		if ((kind & TYPE_ANONYMOUS) != 0) {
+			type.setAnonymous();
+		}
+		if ((kind & TYPE_LOCAL) != 0) {
+			type.setLocal();
+		}
+		if ((kind & TYPE_MEMBER) != 0) {
+			type.setMemberType();
+		}
+		type.setSimpleName(readString(in));
+		if (in.readBoolean()) {
+			String methodName = in.readUTF();
+			String methodSignature = in.readUTF();
+			// an empty name means the attribute is set without a method
+			type.setEnclosingMethodInfo(methodName.isEmpty() ? null : methodName, methodSignature.isEmpty() ? null : methodSignature);
+		}
+		String[] memberTypes = readStrings(in);
+		if (memberTypes != null) {
+			for (String memberType : memberTypes) {
+				type.addMemberType(memberType);
+			}
+		}
+		int fieldCount = in.readInt();
+		for (int i = 0; i < fieldCount; i++) {
+			type.addField(in.readUTF(), in.readUTF(), readString(in), in.readInt(), readValue(in));
+		}
+		int methodCount = in.readInt();
+		for (int i = 0; i < methodCount; i++) {
+			ApiMethod method = type.addMethod(in.readUTF(), in.readUTF(), readString(in), in.readInt(), readStrings(in));
+			method.setDefaultValue(readString(in));
+		}
+		return type;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+		if (values == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(values.length);
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		String[] values = new String[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = in.readUTF();
+		}
+		return values;
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(VALUE_NULL);
+		} else if (value instanceof Integer i) {
+			out.writeByte(VALUE_INT);
+			out.writeInt(i.intValue());
+		} else if (value instanceof Long l) {
+			out.writeByte(VALUE_LONG);
+			out.writeLong(l.longValue());
+		} else if (value instanceof Float f) {
+			out.writeByte(VALUE_FLOAT);
+			out.writeFloat(f.floatValue());
+		} else if (value instanceof Double d) {
+			out.writeByte(VALUE_DOUBLE);
+			out.writeDouble(d.doubleValue());
+		} else if (value instanceof String s) {
+			out.writeByte(VALUE_STRING);
+			out.writeUTF(s);
+		} else {
+			throw new IOException("Unsupported constant value: " + value); //$NON-NLS-1$
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte kind = in.readByte();
+		return switch (kind) {
+			case VALUE_NULL -> null;
+			case VALUE_INT -> Integer.valueOf(in.readInt());
+			case VALUE_LONG -> Long.valueOf(in.readLong());
+			case VALUE_FLOAT -> Float.valueOf(in.readFloat());
+			case VALUE_DOUBLE -> Double.valueOf(in.readDouble());
+			case VALUE_STRING -> in.readUTF();
+			default -> throw new IOException("Unknown constant value kind: " + kind); //$NON-NLS-1$
+		};
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,9 +31,10 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.jdt.internal.core.util.ILRUCacheable;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.FileManager;
@@ -61,30 +62,20 @@ public class UseScanManager {
 
 	/**
 	 * Cache to maintain the list of least recently used
-	 * <code>UseScanReferences</code>
+	 * <code>UseScanReferences</code>, weighted by their footprint
 	 */
-	private static class UseScanCache extends SynchronizedOverflowingLRUCache<IApiComponent, IReferenceCollection> {
+	private static class UseScanCache extends ConcurrentLRUCache<IApiComponent, IReferenceCollection> {
 
 		public UseScanCache(int size) {
-			super(size);
+			super(size, 4, UseScanCache::footprint, (component, references) -> references.clear(), new Statistics());
 		}
 
-		public UseScanCache(int size, int overflow) {
-			super(size, overflow);
-		}
-
-		@Override
-		protected boolean close(LRUCacheEntry<IApiComponent, IReferenceCollection> entry) {
-			IReferenceCollection references = entry.value;
-			references.clear();
-			return true;
-		}
-
-		@Override
-		protected UseScanCache newInstance(int size, int newOverflow) {
-			return new UseScanCache(size, newOverflow);
+		private static int footprint(IReferenceCollection references) {
+			if (references instanceof ILRUCacheable cacheable) {
+				return Math.max(1, cacheable.getCacheFootprint());
+			}
+			return 1;
 		}
-
 	}
 
 	private String[] fLocations = null;
@@ -372,7 +363,7 @@ public class UseScanManager {
 	 * @param size The total number of references that can be held in memory
 	 */
 	public void setCacheSize(int size) {
-		fApiComponentCache.setSpaceLimit(size);
+		fApiComponentCache.setWeightLimit(size);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -16,6 +16,7 @@ package org.eclipse.pde.build.internal.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeFalse;
@@ -27,9 +28,14 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -59,6 +65,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.equinox.internal.p2.publisher.eclipse.Messages;
 import org.eclipse.equinox.p2.publisher.eclipse.FeatureEntry;
+import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.build.internal.tests.ant.AntUtils;
 import org.eclipse.pde.build.tests.BuildConfiguration;
 import org.eclipse.pde.build.tests.PDETestCase;
@@ -67,13 +74,17 @@ import org.eclipse.pde.internal.build.BuildScriptGenerator;
 import org.eclipse.pde.internal.build.Config;
 import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.ScriptGenerationCache;
 import org.eclipse.pde.internal.build.builder.BuildDirector;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
 import org.eclipse.pde.internal.build.site.BuildTimeFeatureFactory;
 import org.eclipse.pde.internal.build.site.BuildTimeSiteFactory;
+import org.eclipse.pde.internal.build.site.ManifestCache;
+import org.eclipse.pde.internal.build.site.PDEState;
 import org.eclipse.pde.internal.build.site.QualifierReplacer;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.osgi.framework.Constants;
 import org.osgi.framework.Version;
 import org.osgi.framework.VersionRange;
 
@@ -2454,4 +2465,89 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	@Test
+	public void testAddBundlesKeepsOrderAndCachesManifests() throws Exception {
+		IFolder buildFolder = newTest("manifestCache");
+		IFolder base = Utils.createFolder(buildFolder, "base");
+		List<File> bundles = new ArrayList<>();
+		for (String id : new String[] { "c", "a", "b" }) {
+			IFolder bundle = Utils.createFolder(base, "plugins/" + id);
+			Utils.generateBundle(bundle, id);
+			bundles.add(bundle.getLocation().toFile());
+		}
+		File baseLocation = base.getLocation().toFile();
+		File cacheFile = buildFolder.getFile("manifests.cache").getLocation().toFile();
+
+		PDEState state = new PDEState();
+		ManifestCache cache = new ManifestCache(cacheFile, baseLocation);
+		state.addBundles(bundles, cache);
+		cache.save();
+
+		List<String> added = Arrays.stream(state.getState().getBundles())
+				.sorted(Comparator.comparingLong(BundleDescription::getBundleId))
+				.map(BundleDescription::getSymbolicName).toList();
+		assertEquals(List.of("c", "a", "b"), added);
+		assertTrue(cacheFile.isFile());
+
+		ManifestCache reloaded = new ManifestCache(cacheFile, baseLocation);
+		assertEquals("a", reloaded.get(bundles.get(1)).get(Constants.BUNDLE_SYMBOLICNAME));
+
+		File manifest = new File(bundles.get(1), JarFile.MANIFEST_NAME);
+		assertTrue(manifest.setLastModified(manifest.lastModified() + 10000));
+		assertNull(reloaded.get(bundles.get(1)));
+	}
+
+	@Test
+	public void testAddBundlesFallsBackToFlexibleRootWithoutSymbolicName() throws Exception {
+		IFolder buildFolder = newTest("flexibleRoot");
+		IFolder project = Utils.createFolder(buildFolder, "plugins/project");
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		File manifestFile = project.getFile(JarFile.MANIFEST_NAME).getLocation().toFile();
+		manifestFile.getParentFile().mkdirs();
+		try (OutputStream output = new FileOutputStream(manifestFile)) {
+			manifest.write(output);
+		}
+		Utils.createFolder(project, ".settings");
+		Properties prefs = new Properties();
+		prefs.put(IPDEBuildConstants.BUNDLE_ROOT_PATH, "root");
+		Utils.storeProperties(project.getFile(IPDEBuildConstants.PDE_CORE_PREFS), prefs);
+		Utils.generateBundle(Utils.createFolder(project, "root"), "flexible");
+
+		PDEState state = new PDEState();
+		state.addBundles(List.of(project.getLocation().toFile()), null);
+
+		BundleDescription[] bundles = state.getState().getBundles();
+		assertEquals(1, bundles.length);
+		assertEquals("flexible", bundles[0].getSymbolicName());
+	}
+
+	@Test
+	public void testIncrementalScriptGenerationKeepsUnchangedScripts() throws Exception {
+		IFolder buildFolder = newTest("incrementalScripts");
+		IFolder a = Utils.createFolder(buildFolder, "plugins/a");
+		Utils.generateBundle(a, "a");
+		Utils.generateFeature(buildFolder, "f", null, new String[] { "a" });
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		properties.put("baseLocation", " ");
+		properties.put(IBuildPropertiesConstants.PROPERTY_INCREMENTAL_SCRIPTS, "true");
+		generateScripts(buildFolder, properties);
+
+		File script = a.getFile("build.xml").getLocation().toFile();
+		String content = Files.readString(script.toPath());
+		long lastModified = script.lastModified();
+		assertTrue(buildFolder.getFile(ScriptGenerationCache.CACHE_FILENAME).getLocation().toFile().isFile());
+
+		generateScripts(buildFolder, properties);
+		assertEquals(lastModified, script.lastModified());
+		File skipped = buildFolder.getFile(ScriptGenerationCache.SKIPPED_FILENAME).getLocation().toFile();
+		assertTrue(Files.readAllLines(skipped.toPath()).stream().anyMatch(element -> element.startsWith("a_")));
+
+		// a script modified since it was generated is written again
+		Files.writeString(script.toPath(), "<project/>");
+		generateScripts(buildFolder, properties);
+		assertEquals(content, Files.readString(script.toPath()));
+	}
 }
@@ -258,6 +258,25 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		script = newAntScript(scriptLocation, scriptName);
 	}
 
+	/**
+	 * Opens a script that is only written if its content changed since the
+	 * previous build.
+	 *
+	 * @param cache the hashes of the scripts of the previous build, may be
+	 * <code>null</code> to always write the script
+	 * @param element the name of the element the script is generated for
+	 */
+	protected void openScript(String scriptLocation, String scriptName, ScriptGenerationCache cache, String element) throws CoreException {
+		if (cache == null) {
+			openScript(scriptLocation, scriptName);
+			return;
+		}
+		if (script != null) {
+			return;
+		}
+		script = cache.newScript(scriptLocation, scriptName, element);
+	}
+
 	protected static AntScript newAntScript(String scriptLocation, String scriptName) throws CoreException {
 		try {
 			OutputStream scriptStream = new BufferedOutputStream(new FileOutputStream(scriptLocation + '/' + scriptName));
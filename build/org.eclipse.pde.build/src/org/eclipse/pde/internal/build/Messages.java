@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -100,6 +100,9 @@ public class Messages extends NLS {
 	public static String fetching_p2Repo;
 	public static String includedFromFeature;
 
+	public static String scriptGeneration_summary;
+	public static String scriptGeneration_unchanged;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.ant.AntScript;
+
+/**
+ * Records the content hashes of the build scripts generated for plug-ins and
+ * features, so that a script whose content did not change since the previous
+ * build is not written again.
+ * <p>
+ * The scripts are generated in memory. A script is only written when its hash
+ * differs from the recorded one or when the script file was modified or
+ * removed since it was written, the file then keeps its time stamp. Once the
+ * generation is done, a one-line summary is logged and the elements whose
+ * scripts were not written are listed in a file next to the cache.
+ * </p>
+ */
+public class ScriptGenerationCache {
+	public static final String CACHE_FILENAME = "scriptGeneration.cache"; //$NON-NLS-1$
+	public static final String SKIPPED_FILENAME = "scriptGeneration.skipped"; //$NON-NLS-1$
+
+	private final File cacheFile;
+	private final Properties hashes = new Properties();
+	private final List<String> generated = new ArrayList<>();
+	private final List<String> skipped = new ArrayList<>();
+	private boolean modified = false;
+
+	/**
+	 * Script generated in memory, written when it is closed if it changed
+	 */
+	private class CachedScript extends AntScript {
+		private final File file;
+		private final String element;
+
+		CachedScript(File file, String element) {
+			super(new ByteArrayOutputStream());
+			this.file = file;
+			this.element = element;
+		}
+
+		@Override
+		public void close() {
+			super.close();
+			commit(file, element, ((ByteArrayOutputStream) out).toByteArray());
+		}
+	}
+
+	/**
+	 * Creates a cache, reading the hashes recorded by the previous build.
+	 *
+	 * @param cacheFile the file the hashes are stored in
+	 */
+	public ScriptGenerationCache(File cacheFile) {
+		this.cacheFile = cacheFile;
+		if (cacheFile.isFile()) {
+			try (InputStream input = new BufferedInputStream(new FileInputStream(cacheFile))) {
+				hashes.load(input);
+			} catch (IOException e) {
+				// all scripts are written again
+				hashes.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns a script generated in memory and written to the given location
+	 * when it is closed, unless its content did not change.
+	 *
+	 * @param scriptLocation the directory of the script
+	 * @param scriptName the file name of the script
+	 * @param element the name of the plug-in or feature the script is
+	 * generated for, used for reporting
+	 * @return the script
+	 */
+	public AntScript newScript(String scriptLocation, String scriptName, String element) {
+		return new CachedScript(new File(scriptLocation, scriptName), element);
+	}
+
+	private void commit(File file, String element, byte[] content) {
+		generated.add(element);
+		String key = file.getAbsolutePath();
+		String hash = hash(content);
+		if ((hash + ':' + stamp(file)).equals(hashes.getProperty(key))) {
+			skipped.add(element);
+			return;
+		}
+		try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+			output.write(content);
+		} catch (IOException e) {
+			hashes.remove(key);
+			modified = true;
+			String message = NLS.bind(Messages.exception_writingFile, file);
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.ERROR, IPDEBuildConstants.PI_PDEBUILD, IPDEBuildConstants.EXCEPTION_WRITING_FILE, message, e));
+			return;
+		}
+		hashes.setProperty(key, hash + ':' + stamp(file));
+		modified = true;
+	}
+
+	/**
+	 * @return the elements whose scripts were not written since they did not
+	 * change
+	 */
+	public List<String> getSkippedElements() {
+		return Collections.unmodifiableList(skipped);
+	}
+
+	/**
+	 * Stores the recorded hashes, lists the elements whose scripts were not
+	 * written in {@link #SKIPPED_FILENAME} and logs a summary. The unchanged
+	 * elements are only logged one by one when debugging.
+	 */
+	public void save() {
+		if (modified) {
+			try {
+				Files.createDirectories(cacheFile.getAbsoluteFile().getParentFile().toPath());
+				try (OutputStream output = new BufferedOutputStream(new FileOutputStream(cacheFile))) {
+					hashes.store(output, "Build script hashes"); //$NON-NLS-1$
+				}
+				modified = false;
+			} catch (IOException e) {
+				// the scripts are written again by the next build
+				String message = NLS.bind(Messages.exception_writingFile, cacheFile);
+				BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, message, e));
+			}
+		}
+		if (generated.isEmpty()) {
+			return;
+		}
+		File skippedFile = new File(cacheFile.getAbsoluteFile().getParentFile(), SKIPPED_FILENAME);
+		try {
+			Files.write(skippedFile.toPath(), skipped);
+		} catch (IOException e) {
+			String message = NLS.bind(Messages.exception_writingFile, skippedFile);
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, message, e));
+		}
+		String summary = NLS.bind(Messages.scriptGeneration_summary, Integer.toString(generated.size()), Integer.toString(skipped.size()));
+		IStatus status = new Status(IStatus.INFO, IPDEBuildConstants.PI_PDEBUILD, summary);
+		if (BundleHelper.getDefault().isDebugging() && !skipped.isEmpty()) {
+			MultiStatus unchanged = new MultiStatus(IPDEBuildConstants.PI_PDEBUILD, 0, summary, null);
+			for (String element : skipped) {
+				unchanged.add(new Status(IStatus.INFO, IPDEBuildConstants.PI_PDEBUILD, NLS.bind(Messages.scriptGeneration_unchanged, element)));
+			}
+			status = unchanged;
+		}
+		BundleHelper.getDefault().getLog().log(status);
+	}
+
+	private static String stamp(File file) {
+		return file.lastModified() + ":" + file.length(); //$NON-NLS-1$
+	}
+
+	private static String hash(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is supported by every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,7 @@ import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.AssemblyInformation;
 import org.eclipse.pde.internal.build.Config;
 import org.eclipse.pde.internal.build.Messages;
+import org.eclipse.pde.internal.build.ScriptGenerationCache;
 import org.eclipse.pde.internal.build.SourceFeatureInformation;
 import org.eclipse.pde.internal.build.Utils;
 import org.eclipse.pde.internal.build.builder.ClasspathComputer3_0.ClasspathElement;
@@ -75,6 +76,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	protected boolean generateJnlp = false;
 	protected boolean workspaceBinaries = false;
 	private boolean sourceReferences = false;
+	private ScriptGenerationCache scriptCache = null;
 
 	public static boolean p2Gathering = false;
 
@@ -238,7 +240,26 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	 * @see AbstractScriptGenerator#generate()
 	 */
 	public void generate(BuildTimeFeature feature) throws CoreException {
-		generate(feature, true);
+		boolean incremental = scriptGeneration && scriptCache == null && getPropertyAsBoolean(PROPERTY_INCREMENTAL_SCRIPTS);
+		if (incremental) {
+			scriptCache = new ScriptGenerationCache(new File(workingDirectory, ScriptGenerationCache.CACHE_FILENAME));
+		}
+		try {
+			generate(feature, true);
+		} finally {
+			if (incremental) {
+				scriptCache.save();
+				scriptCache = null;
+			}
+		}
+	}
+
+	/**
+	 * @return the hashes of the scripts generated by the previous build, or
+	 * <code>null</code> if the scripts are always written
+	 */
+	ScriptGenerationCache getScriptCache() {
+		return scriptCache;
 	}
 
 	protected void generate(BuildTimeFeature feature, boolean generateProductFiles) throws CoreException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -141,7 +141,7 @@ public class FeatureBuildScriptGenerator extends AbstractScriptGenerator {
 				throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_WRITING_SCRIPT, message, e));
 			}
 		} else {
-			openScript(featureRootLocation, DEFAULT_BUILD_SCRIPT_FILENAME);
+			openScript(featureRootLocation, DEFAULT_BUILD_SCRIPT_FILENAME, director == null ? null : director.getScriptCache(), feature.getId() + '_' + feature.getVersion());
 			try {
 				generateBuildScript();
 			} finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -189,7 +189,7 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			return;
 		}
 
-		openScript(getLocation(model), buildScriptFileName);
+		openScript(getLocation(model), buildScriptFileName, featureGenerator == null ? null : featureGenerator.getScriptCache(), fullName);
 		try {
 			generateBuildScript();
 		} finally {
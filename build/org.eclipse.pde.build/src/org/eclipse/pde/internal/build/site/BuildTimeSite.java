@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,25 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 		return result;
 	}
 
+	/**
+	 * Returns the cache of the manifests of the base location bundles if the
+	 * build sets a cache file.
+	 */
+	private ManifestCache getManifestCache(BuildTimeSiteContentProvider provider) {
+		String cacheFile = AbstractScriptGenerator.getImmutableAntProperty(IBuildPropertiesConstants.PROPERTY_MANIFEST_CACHE);
+		if (cacheFile == null || cacheFile.isBlank() || provider.getInstalledBaseURL() == null) {
+			return null;
+		}
+		File baseLocation = new File(provider.getInstalledBaseURL());
+		try {
+			// the bundle locations are canonical as well
+			baseLocation = baseLocation.getCanonicalFile();
+		} catch (IOException e) {
+			// ignore
+		}
+		return new ManifestCache(new File(cacheFile), baseLocation);
+	}
+
 	private Collection<File> removeDuplicates(Collection<File> bundles) {
 		Set<File> result = new LinkedHashSet<>(bundles.size() / 2);
 		for (File bundle : bundles) {
@@ -159,7 +178,11 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 			}
 
 			Collection<File> bundles = removeDuplicates(provider.getPluginPaths());
-			state.addBundles(bundles);
+			ManifestCache manifestCache = getManifestCache(provider);
+			state.addBundles(bundles, manifestCache);
+			if (manifestCache != null) {
+				manifestCache.save();
+			}
 			state.setEESources(eeSources);
 
 			//Once all the elements have been added to the state, the filter is removed to allow for the generated plug-ins to be added
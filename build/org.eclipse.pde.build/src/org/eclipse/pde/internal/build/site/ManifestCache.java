@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.Messages;
+
+/**
+ * Persistent cache of the manifests of the bundles of the base location.
+ * <p>
+ * The bundles of the base location rarely change between two builds, the
+ * manifests read from them are stored in the cache file and read from there by
+ * the next build instead of opening every jar again. A manifest is taken from
+ * the cache as long as the time stamp and the size of the jar or of the
+ * manifest file of the bundle did not change. The bundles that are not located
+ * in the base location are never cached.
+ * </p>
+ */
+public class ManifestCache {
+	private static final int MAGIC = 0x50444d43; // "PDMC"
+	private static final int VERSION = 1;
+
+	private record Entry(long lastModified, long length, Map<String, String> headers) {
+		// the headers of a manifest and the stamp of the file it was read from
+	}
+
+	private final File cacheFile;
+	private final String baseLocation;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private volatile boolean modified = false;
+
+	/**
+	 * Creates a cache, reading the manifests stored by a previous build.
+	 *
+	 * @param cacheFile the file the cache is stored in
+	 * @param baseLocation the directory of the base location
+	 */
+	public ManifestCache(File cacheFile, File baseLocation) {
+		this.cacheFile = cacheFile;
+		this.baseLocation = baseLocation.getAbsolutePath() + File.separatorChar;
+		load();
+	}
+
+	/**
+	 * Returns a copy of the cached manifest of the given bundle.
+	 *
+	 * @param bundleLocation the location of a bundle
+	 * @return the manifest or <code>null</code> if the bundle is not in the
+	 *         base location, not cached or changed since it was cached
+	 */
+	public Dictionary<String, String> get(File bundleLocation) {
+		String key = bundleLocation.getAbsolutePath();
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		File file = getManifestFile(bundleLocation);
+		if (file.lastModified() != entry.lastModified() || file.length() != entry.length()) {
+			entries.remove(key);
+			modified = true;
+			return null;
+		}
+		// the state modifies the manifests it is given
+		return new Hashtable<>(entry.headers());
+	}
+
+	/**
+	 * Caches the manifest of the given bundle if it is in the base location.
+	 *
+	 * @param bundleLocation the location of a bundle
+	 * @param manifest the manifest read from the bundle
+	 */
+	public void put(File bundleLocation, Dictionary<String, String> manifest) {
+		String key = bundleLocation.getAbsolutePath();
+		if (!key.startsWith(baseLocation)) {
+			return;
+		}
+		Map<String, String> headers = new Hashtable<>();
+		for (Enumeration<String> keys = manifest.keys(); keys.hasMoreElements();) {
+			String header = keys.nextElement();
+			headers.put(header, manifest.get(header));
+		}
+		File file = getManifestFile(bundleLocation);
+		entries.put(key, new Entry(file.lastModified(), file.length(), headers));
+		modified = true;
+	}
+
+	/**
+	 * Stores the cache if manifests were added or removed since it was read.
+	 */
+	public void save() {
+		if (!modified) {
+			return;
+		}
+		Path file = cacheFile.toPath();
+		try {
+			Files.createDirectories(file.toAbsolutePath().getParent());
+			Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), cacheFile.getName(), null);
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(entries.size());
+					for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+						writeString(out, entry.getKey());
+						out.writeLong(entry.getValue().lastModified());
+						out.writeLong(entry.getValue().length());
+						out.writeInt(entry.getValue().headers().size());
+						for (Map.Entry<String, String> header : entry.getValue().headers().entrySet()) {
+							writeString(out, header.getKey());
+							writeString(out, header.getValue());
+						}
+					}
+				}
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+			modified = false;
+		} catch (IOException e) {
+			// the manifests are read from the bundles again by the next build
+			String message = NLS.bind(Messages.exception_writingFile, cacheFile.getAbsolutePath());
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, message, e));
+		}
+	}
+
+	private void load() {
+		if (!cacheFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String key = readString(in);
+				long lastModified = in.readLong();
+				long length = in.readLong();
+				int headerCount = in.readInt();
+				Map<String, String> headers = new Hashtable<>();
+				for (int j = 0; j < headerCount; j++) {
+					headers.put(readString(in), readString(in));
+				}
+				entries.put(key, new Entry(lastModified, length, headers));
+			}
+		} catch (IOException e) {
+			// a corrupt cache is rebuilt from the bundles
+			entries.clear();
+			modified = true;
+		}
+	}
+
+	private static File getManifestFile(File bundleLocation) {
+		return bundleLocation.isFile() ? bundleLocation : new File(bundleLocation, JarFile.MANIFEST_NAME);
+	}
+
+	// headers such as Export-Package may exceed the limit of writeUTF
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2023 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.UnaryOperator;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
@@ -74,6 +78,11 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	private static final ILog LOGGER = ILog.get();
 	private static final String[] MANIFEST_ENTRIES = {Constants.BUNDLE_LOCALIZATION, Constants.BUNDLE_NAME, Constants.BUNDLE_VENDOR, ECLIPSE_BUNDLE_SHAPE, ECLIPSE_SOURCE_BUNDLE, ECLIPSE_SOURCE_REF};
 	private static final int LAST_SUPPORTED_JDK = Integer.parseInt(JavaCore.latestSupportedJavaVersion());
+	/**
+	 * System property to set the maximum number of bundle manifests read at the
+	 * same time, defaults to the number of available processors.
+	 */
+	private static final int WORKERS = Integer.getInteger("org.eclipse.pde.build.manifestReaders", Runtime.getRuntime().availableProcessors()); //$NON-NLS-1$
 	private StateObjectFactory factory;
 	protected State state;
 	private long id;
@@ -136,26 +145,34 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		try {
 			BundleDescription descriptor;
 			descriptor = factory.createBundleDescription(state, enhancedManifest, bundleLocation.getAbsolutePath(), getNextId());
-			bundleClasspaths.put(Long.valueOf(descriptor.getBundleId()), BundleHelper.getClasspath(enhancedManifest));
-			String patchValue = fillPatchData(enhancedManifest);
-			if (patchValue != null) {
-				patchBundles.put(Long.valueOf(descriptor.getBundleId()), patchValue);
-			}
-			rememberQualifierTagPresence(descriptor);
-			rememberManifestConversion(descriptor, enhancedManifest);
-			rememberManifestEntries(descriptor, enhancedManifest, MANIFEST_ENTRIES);
-			rememberSourceReference(descriptor, oldVersion);
-			if (addBundleDescription(descriptor) == true && addedBundle != null) {
-				addedBundle.add(descriptor);
-			}
+			addBundle(descriptor, enhancedManifest, oldVersion);
 		} catch (BundleException e) {
-			IStatus status = new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, EXCEPTION_STATE_PROBLEM, NLS.bind(Messages.exception_stateAddition, BundleHelper.getManifestHeader(enhancedManifest, Constants.BUNDLE_NAME)), e);
-			BundleHelper.getDefault().getLog().log(status);
+			logStateAdditionProblem(enhancedManifest, e);
 			return false;
 		}
 		return true;
 	}
 
+	private void addBundle(BundleDescription descriptor, Dictionary<String, String> enhancedManifest, String oldVersion) {
+		bundleClasspaths.put(Long.valueOf(descriptor.getBundleId()), BundleHelper.getClasspath(enhancedManifest));
+		String patchValue = fillPatchData(enhancedManifest);
+		if (patchValue != null) {
+			patchBundles.put(Long.valueOf(descriptor.getBundleId()), patchValue);
+		}
+		rememberQualifierTagPresence(descriptor);
+		rememberManifestConversion(descriptor, enhancedManifest);
+		rememberManifestEntries(descriptor, enhancedManifest, MANIFEST_ENTRIES);
+		rememberSourceReference(descriptor, oldVersion);
+		if (addBundleDescription(descriptor) == true && addedBundle != null) {
+			addedBundle.add(descriptor);
+		}
+	}
+
+	private void logStateAdditionProblem(Dictionary<String, String> enhancedManifest, BundleException e) {
+		IStatus status = new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, EXCEPTION_STATE_PROBLEM, NLS.bind(Messages.exception_stateAddition, BundleHelper.getManifestHeader(enhancedManifest, Constants.BUNDLE_NAME)), e);
+		BundleHelper.getDefault().getLog().log(status);
+	}
+
 	private void rememberQualifierTagPresence(BundleDescription descriptor) {
 		Properties bundleProperties = null;
 		bundleProperties = (Properties) descriptor.getUserObject();
@@ -272,20 +289,25 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	private boolean addFlexibleRoot(File bundleLocation) {
+		File root = getFlexibleRoot(bundleLocation);
+		return root != null && addBundle(root);
+	}
+
+	private File getFlexibleRoot(File bundleLocation) {
 		if (!new File(bundleLocation, PDE_CORE_PREFS).exists()) {
-			return false;
+			return null;
 		}
 
 		try {
 			Properties properties = AbstractScriptGenerator.readProperties(bundleLocation.getAbsolutePath(), PDE_CORE_PREFS, IStatus.OK);
 			String root = properties.getProperty(BUNDLE_ROOT_PATH);
 			if (root != null) {
-				return addBundle(new File(bundleLocation, root));
+				return new File(bundleLocation, root);
 			}
 		} catch (CoreException e) {
 			//ignore
 		}
-		return false;
+		return null;
 	}
 
 	private String updateVersionNumber(Dictionary<String, String> manifest) {
@@ -396,9 +418,116 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
+		addBundles(bundles, null);
+	}
+
+	/**
+	 * A manifest loaded for a bundle, the location is the root of the bundle if
+	 * it is a flexible root project
+	 */
+	private record LoadedManifest(File location, Dictionary<String, String> manifest) {
+	}
+
+	/**
+	 * Adds the given bundles to the state. The manifests are loaded
+	 * concurrently by up to {@link #WORKERS} threads, the bundle descriptions
+	 * are then created and added to the state in the order of the given
+	 * bundles and get the same ids as if the bundles were added one after
+	 * another.
+	 *
+	 * @param bundles the locations of the bundles
+	 * @param cache the cache of the manifests of the base location, may be
+	 * <code>null</code>
+	 */
+	public void addBundles(Collection<File> bundles, ManifestCache cache) {
+		File[] locations = bundles.toArray(File[]::new);
+		LoadedManifest[] loaded = loadBundles(locations, cache);
+		for (LoadedManifest bundle : loaded) {
+			if (bundle == null) {
+				continue;
+			}
+			// the qualifiers and the ids are assigned in the order of the bundles
+			String oldVersion = updateVersionNumber(bundle.manifest());
+			try {
+				BundleDescription description = factory.createBundleDescription(state, bundle.manifest(), bundle.location().getAbsolutePath(), getNextId());
+				addBundle(description, bundle.manifest(), oldVersion);
+			} catch (BundleException e) {
+				logStateAdditionProblem(bundle.manifest(), e);
+			}
+		}
+	}
+
+	/**
+	 * Loads the manifests of the given bundles, reading the files on a
+	 * dedicated pool rather than the common fork-join pool since the reads
+	 * block.
+	 */
+	private LoadedManifest[] loadBundles(File[] locations, ManifestCache cache) {
+		LoadedManifest[] loaded = new LoadedManifest[locations.length];
+		int workers = Math.max(1, Math.min(WORKERS, locations.length));
+		if (workers == 1) {
+			for (int i = 0; i < locations.length; i++) {
+				loaded[i] = loadBundle(locations[i], cache);
+			}
+			return loaded;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "PDE Build Manifest Reader"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<LoadedManifest>> futures = new ArrayList<>(locations.length);
+			for (File location : locations) {
+				futures.add(executor.submit(() -> loadBundle(location, cache)));
+			}
+			for (int i = 0; i < locations.length; i++) {
+				loaded[i] = getResult(futures.get(i));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} finally {
+			executor.shutdownNow();
+		}
+		return loaded;
+	}
+
+	private static LoadedManifest getResult(Future<LoadedManifest> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private LoadedManifest loadBundle(File bundleLocation, ManifestCache cache) {
+		Dictionary<String, String> manifest = cache == null ? null : cache.get(bundleLocation);
+		if (manifest == null) {
+			manifest = basicLoadManifest(bundleLocation);
+			if (manifest != null && cache != null) {
+				cache.put(bundleLocation, manifest);
+			}
+		}
+		// like loadManifest, a manifest without a Bundle-SymbolicName is no manifest
+		if (manifest == null || !enforceSymbolicName(bundleLocation, manifest)) {
+			File root = getFlexibleRoot(bundleLocation);
+			return root == null ? null : loadBundle(root, cache);
+		}
+		enforceVersion(manifest);
+		enforceClasspath(manifest);
+		try {
+			hasQualifier(bundleLocation, manifest);
+		} catch (BundleException e) {
+			//should not happen since we know the header
 		}
+		return new LoadedManifest(bundleLocation, manifest);
 	}
 
 	@SuppressWarnings("deprecation")
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -146,10 +146,20 @@ public class BuildScriptGeneratorTask extends Task {
 			properties.put(IBuildPropertiesConstants.PROPERTY_SUPPRESS_RESOLUTION_ERRORS, "true"); //$NON-NLS-1$
 		}
 
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_INCREMENTAL_SCRIPTS);
+		if (Boolean.valueOf(value).booleanValue()) {
+			properties.put(IBuildPropertiesConstants.PROPERTY_INCREMENTAL_SCRIPTS, "true"); //$NON-NLS-1$
+		}
+
 		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_ANT_VERSION);
 		if (value != null) {
 			properties.put(IBuildPropertiesConstants.PROPERTY_ANT_VERSION, value);
 		}
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_MANIFEST_CACHE);
+		if (value != null) {
+			properties.put(IBuildPropertiesConstants.PROPERTY_MANIFEST_CACHE, value);
+		}
 	}
 
 	private void setEEProfileProperties(Properties antProperties) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.target.Messages;
+import org.eclipse.pde.internal.core.util.ManifestCache;
 import org.eclipse.pde.internal.core.util.ManifestUtils;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
@@ -172,7 +173,7 @@ public class TargetBundle {
 		if (file == null || !file.exists()) {
 			throw new CoreException(Status.error(NLS.bind(Messages.TargetFeature_FileDoesNotExist, file)));
 		}
-		Map<String, String> manifest = ManifestUtils.loadManifest(file);
+		Map<String, String> manifest = ManifestCache.getDefault().loadManifest(file);
 		try {
 			fInfo = new BundleInfo(file.toURI()) {
 				private String manifestString;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.runtime.CoreException;
@@ -36,6 +42,36 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * Maximum number of resolved states kept for validations that are run
+	 * again with the same bundles and platform properties
+	 */
+	private static final int MAX_STATES = 4;
+
+	/**
+	 * A validated bundle. Descriptions are replaced whenever the model of a
+	 * bundle changes, the time stamp also catches in-place modifications.
+	 */
+	private record ValidatedBundle(BundleDescription description, long timeStamp) {
+	}
+
+	private record ValidationKey(Set<ValidatedBundle> bundles, List<Map<String, Object>> properties) {
+	}
+
+	/**
+	 * The resolved states of the most recent validations; they are only read
+	 * once resolved
+	 */
+	private static final Map<ValidationKey, State> fgStates = Collections
+			.synchronizedMap(new LinkedHashMap<ValidationKey, State>(MAX_STATES, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<ValidationKey, State> eldest) {
+					return size() > MAX_STATES;
+				}
+			});
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
 	private State fState;
@@ -55,19 +91,52 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		if (FACTORY == null) {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
-		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
-		long id = 1;
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 3);
+		List<BundleDescription> bundles = new ArrayList<>(fModels.size());
+		Set<ValidatedBundle> validated = new HashSet<>();
 		for (IPluginModelBase fModel : fModels) {
 			BundleDescription bundle = fModel.getBundleDescription();
 			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(id++, bundle));
+				bundles.add(bundle);
+				validated.add(new ValidatedBundle(bundle, fModel.getTimeStamp()));
 			}
-			subMonitor.split(1);
 		}
+		ValidationKey key = new ValidationKey(validated, toMaps(fProperties));
+		State state = fgStates.get(key);
+		if (state != null) {
+			// nothing changed since these bundles were validated
+			fState = state;
+			subMonitor.done();
+			return;
+		}
+		// copying the descriptions does not depend on the state, only adding
+		// them does
+		BundleDescription[] copies = new BundleDescription[bundles.size()];
+		IntStream.range(0, copies.length).parallel()
+				.forEach(i -> copies[i] = FACTORY.createBundleDescription(i + 1, bundles.get(i)));
+		subMonitor.split(1);
+		fState = FACTORY.createState(true);
+		for (BundleDescription copy : copies) {
+			fState.addBundle(copy);
+		}
+		subMonitor.split(1);
 		fState.setPlatformProperties(fProperties);
 		fState.resolve(false);
 		subMonitor.split(1);
+		fgStates.put(key, fState);
+	}
+
+	private static List<Map<String, Object>> toMaps(Dictionary<String, String>[] properties) {
+		List<Map<String, Object>> maps = new ArrayList<>(properties.length);
+		for (Dictionary<String, String> dictionary : properties) {
+			Map<String, Object> map = new HashMap<>();
+			for (Enumeration<String> keys = dictionary.keys(); keys.hasMoreElements();) {
+				String key = keys.nextElement();
+				map.put(key, dictionary.get(key));
+			}
+			maps.add(map);
+		}
+		return maps;
 	}
 
 	public Map<Object, Object[]> getResolverErrors() {
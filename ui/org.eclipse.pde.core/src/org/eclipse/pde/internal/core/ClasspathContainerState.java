@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 Christoph Läubrich and others.
+ * Copyright (c) 2025, 2026 Christoph Läubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -27,6 +28,11 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IProject;
@@ -56,6 +62,14 @@ import aQute.bnd.build.Project;
 
 public class ClasspathContainerState {
 
+	/**
+	 * System property to set the maximum number of projects whose classpath is
+	 * computed at the same time, defaults to the number of available
+	 * processors.
+	 */
+	private static final int WORKERS = Integer.getInteger("org.eclipse.pde.core.classpathWorkers", //$NON-NLS-1$
+			Runtime.getRuntime().availableProcessors());
+
 	/**
 	 * Job used to update class path containers.
 	 */
@@ -105,7 +119,6 @@ public class ClasspathContainerState {
 			long startNanos = PDECore.DEBUG_CLASSPATH ? System.nanoTime() : 0;
 			SubMonitor monitor = SubMonitor.convert(jobMonitor, PDECoreMessages.PluginModelManager_1, 100);
 			PluginModelManager.getInstance().initialize(monitor.split(1));
-			PluginModelManager modelManager = PluginModelManager.getInstance();
 			Map<IJavaProject, IClasspathContainer> updateProjects = new LinkedHashMap<>();
 			Map<IProject, IStatus> errorsPerProject = new LinkedHashMap<>();
 
@@ -114,32 +127,33 @@ public class ClasspathContainerState {
 			monitor.setWorkRemaining(count * 2);
 
 			long computeNanos = PDECore.DEBUG_CLASSPATH ? System.nanoTime() : 0;
-			String messageTemplate = PDECoreMessages.PluginModelManager_1 + " ({0}/{1}): {2}"; //$NON-NLS-1$
-			for (int i = 0; i < requests.size(); i++) {
-				UpdateRequest req = requests.get(i);
-				if (monitor.isCanceled()) {
-					break;
-				}
-				IProject project = req.project();
-				if (project.exists() && project.isOpen()) {
-					monitor.setTaskName(NLS.bind(messageTemplate, i + 1, count, project.getName()));
-					IPluginModelBase model = modelManager.findModel(project);
-					if (isPdeContainerProject(project, model) && PluginProject.isJavaProject(project)) {
-						IJavaProject javaProject = JavaCore.create(project);
-						try {
-							IClasspathEntry[] entries = ClasspathComputer.computeClasspathEntries(model,
-									javaProject.getProject());
-							if (!isUpToDate(project, entries, req.container())) {
-								updateProjects.put(javaProject, PDEClasspathContainerSaveHelper.containerOf(entries));
+			int workers = Math.max(1, Math.min(WORKERS, count));
+			if (PDECore.DEBUG_CLASSPATH) {
+				PDECore.TRACE.trace(PDECore.KEY_DEBUG_CLASSPATH, String
+						.format("Computing classpath of %d project(s) with %d worker(s).", count, workers)); //$NON-NLS-1$
+			}
+			try {
+				computeClasspaths(requests.stream().map(UpdateRequest::project).toList(), workers, monitor,
+						(result, i) -> {
+							UpdateRequest req = requests.get(i);
+							IProject project = req.project();
+							if (PDECore.DEBUG_CLASSPATH) {
+								PDECore.TRACE.trace(PDECore.KEY_DEBUG_CLASSPATH,
+										String.format("Computed classpath of %s in %d ms on %s.", project.getName(), //$NON-NLS-1$
+												result.nanos() / 1_000_000L, result.thread()));
+							}
+							if (result.error() != null) {
+								errorsPerProject.put(project, result.error().getStatus());
+							} else if (!isUpToDate(project, result.entries(), req.container())) {
+								updateProjects.put(result.javaProject(),
+										PDEClasspathContainerSaveHelper.containerOf(result.entries()));
 								errorsPerProject.remove(project);
-								saveState(project, entries);
+								saveState(project, result.entries());
 							}
-						} catch (CoreException e) {
-							errorsPerProject.put(project, e.getStatus());
-						}
-					}
-				}
-				monitor.worked(1);
+						});
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Status.CANCEL_STATUS;
 			}
 			traceRuntime("Computed classpath of %2$d project(s) in %1$d ms.", computeNanos, count); //$NON-NLS-1$
 			if (monitor.isCanceled()) {
@@ -219,6 +233,111 @@ public class ClasspathContainerState {
 
 	}
 
+	/**
+	 * Computes the classpath entries of the given projects and passes the
+	 * results to the consumer in the order of the projects, together with the
+	 * index of the project. Classpath contributors that are not marked as
+	 * {@link IThreadSafeClasspathContributor} and bnd may access the workspace,
+	 * the classpath of projects using them is therefore computed on the calling
+	 * thread, which owns the workspace rule in the update job. The classpath of
+	 * the other projects is computed concurrently by up to the given number of
+	 * workers, or on the calling thread if only one worker is allowed.
+	 *
+	 * @param projects
+	 *            the projects to compute the classpath of
+	 * @param workers
+	 *            the maximum number of projects computed at the same time
+	 * @param monitor
+	 *            the progress monitor, its task name is updated and one unit
+	 *            of work is consumed per project
+	 * @param consumer
+	 *            receives the classpath of each project that has a PDE
+	 *            classpath container
+	 */
+	public static void computeClasspaths(List<IProject> projects, int workers, IProgressMonitor monitor,
+			ObjIntConsumer<ComputedClasspath> consumer) throws InterruptedException {
+		PluginModelManager modelManager = PluginModelManager.getInstance();
+		boolean contributors = RequiredPluginsClasspathContainer.hasThreadUnsafeClasspathContributors();
+		int count = projects.size();
+		String messageTemplate = PDECoreMessages.PluginModelManager_1 + " ({0}/{1}): {2}"; //$NON-NLS-1$
+		// the entries are computed concurrently from the model state, which
+		// is not modified while the update job holds the workspace rule
+		ExecutorService executor = workers <= 1 ? null : Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "PDE Classpath Computation"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<ComputedClasspath>> results = new ArrayList<>(count);
+			for (IProject project : projects) {
+				results.add(executor != null && !contributors && !BndProject.isBndProject(project)
+						&& modelManager.findModel(project) != null
+								? executor.submit(() -> computeClasspath(project, modelManager, monitor))
+								: null);
+			}
+			for (int i = 0; i < count; i++) {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				IProject project = projects.get(i);
+				monitor.setTaskName(NLS.bind(messageTemplate, i + 1, count, project.getName()));
+				Future<ComputedClasspath> future = results.get(i);
+				ComputedClasspath result = future != null ? getResult(future)
+						: computeClasspath(project, modelManager, monitor);
+				if (result != null) {
+					consumer.accept(result, i);
+				}
+				monitor.worked(1);
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Computes the classpath entries of the given project.
+	 *
+	 * @return the computed entries or <code>null</code> if the project has
+	 *         no PDE classpath container or the job is canceled
+	 */
+	private static ComputedClasspath computeClasspath(IProject project, PluginModelManager modelManager,
+			IProgressMonitor monitor) {
+		if (monitor.isCanceled() || !project.exists() || !project.isOpen()) {
+			return null;
+		}
+		IPluginModelBase model = modelManager.findModel(project);
+		if (!isPdeContainerProject(project, model) || !PluginProject.isJavaProject(project)) {
+			return null;
+		}
+		long start = System.nanoTime();
+		IJavaProject javaProject = JavaCore.create(project);
+		IClasspathEntry[] entries = null;
+		CoreException error = null;
+		try {
+			entries = ClasspathComputer.computeClasspathEntries(model, javaProject.getProject());
+		} catch (CoreException e) {
+			error = e;
+		}
+		return new ComputedClasspath(javaProject, entries, error, System.nanoTime() - start,
+				Thread.currentThread().getName());
+	}
+
+	private static ComputedClasspath getResult(Future<ComputedClasspath> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
 	/**
 	 * Drains the given queue and deduplicates requests for the same project.
 	 * Multiple requests for one project are queued e.g. when a target platform
@@ -351,6 +470,16 @@ public class ClasspathContainerState {
 		fUpdateJob.addAll(updateProjects);
 	}
 
+	/**
+	 * Returns the projects whose classpath update has been requested but not
+	 * processed yet.
+	 *
+	 * @return the queued projects in request order
+	 */
+	public static List<IProject> getQueuedProjects() {
+		return fUpdateJob.workQueue.stream().map(UpdateRequest::project).toList();
+	}
+
 	static void requestClasspathUpdate(IProject project, IClasspathContainer savedState) {
 		fUpdateJob.add(project, savedState);
 	}
@@ -358,4 +487,14 @@ public class ClasspathContainerState {
 	public static record UpdateRequest(IProject project, IClasspathContainer container) {
 
 	}
+
+	/**
+	 * The classpath entries computed for a project, or the error computing
+	 * them, with the time taken and the name of the thread they were computed
+	 * on.
+	 */
+	public static record ComputedClasspath(IJavaProject javaProject, IClasspathEntry[] entries,
+			CoreException error, long nanos, String thread) {
+
+	}
 }
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import org.eclipse.pde.core.IClasspathContributor;
+
+/**
+ * Marks a classpath contributor that may be called concurrently for different
+ * projects from threads that do not own the workspace rule. The classpath of
+ * projects is only computed in parallel if all registered contributors are
+ * marked with this interface, otherwise it is computed on the thread of the
+ * classpath update job.
+ *
+ * @see ClasspathContainerState#computeClasspaths
+ */
+public interface IThreadSafeClasspathContributor extends IClasspathContributor {
+}
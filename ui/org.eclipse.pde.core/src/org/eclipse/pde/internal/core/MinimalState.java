@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2025 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,7 @@ import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.core.builders.PDEBuilderHelper;
 import org.eclipse.pde.internal.core.natures.PluginProject;
+import org.eclipse.pde.internal.core.util.ManifestCache;
 import org.eclipse.pde.internal.core.util.ManifestUtils;
 import org.eclipse.pde.internal.core.util.UtilMessages;
 import org.osgi.framework.BundleException;
@@ -201,16 +202,32 @@ public class MinimalState {
 
 	public BundleDescription addBundle(Map<String, String> manifest, File bundleLocation, long bundleId)
 			throws CoreException {
+		BundleDescription descriptor = createBundleDescription(manifest, bundleLocation,
+				bundleId == -1 ? getNextId() : bundleId);
+		// new bundle
+		if (descriptor != null && (bundleId == -1 || !fState.updateBundle(descriptor))) {
+			fState.addBundle(descriptor);
+		}
+		return descriptor;
+	}
+
+	/**
+	 * Creates the description of a bundle without adding it to the state.
+	 *
+	 * @param manifest the manifest headers of the bundle
+	 * @param bundleLocation the location of the bundle
+	 * @param bundleId the id of the new description
+	 * @return the description or <code>null</code> if the manifest is not
+	 *         supported
+	 * @throws CoreException if the manifest is invalid
+	 */
+	protected BundleDescription createBundleDescription(Map<String, String> manifest, File bundleLocation,
+			long bundleId) throws CoreException {
 		try {
 			// OSGi requires a dictionary over any map
 			Dictionary<String, String> dictionaryManifest = FrameworkUtil.asDictionary(manifest);
-			BundleDescription descriptor = BundleHelper.getPlatformAdmin().getFactory().createBundleDescription(fState,
-					dictionaryManifest, bundleLocation.getAbsolutePath(), bundleId == -1 ? getNextId() : bundleId);
-			// new bundle
-			if (bundleId == -1 || !fState.updateBundle(descriptor)) {
-				fState.addBundle(descriptor);
-			}
-			return descriptor;
+			return BundleHelper.getPlatformAdmin().getFactory().createBundleDescription(fState, dictionaryManifest,
+					bundleLocation.getAbsolutePath(), bundleId);
 		} catch (BundleException e) {
 			// A stack trace isn't helpful here, but need to list the plug-in
 			// location causing the issue
@@ -224,27 +241,44 @@ public class MinimalState {
 	}
 
 	public BundleDescription addBundle(File bundleLocation, long bundleId) throws CoreException {
-		Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+		Map<String, String> manifest = ManifestCache.getDefault().loadManifest(bundleLocation);
 		return addBundle(bundleLocation, bundleId, manifest);
 	}
 
-	private BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
+	protected BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
 			throws CoreException {
 		// update for development mode
 		TargetWeaver.weaveManifest(manifest, bundleLocation);
 
 		BundleDescription desc = addBundle(manifest, bundleLocation, bundleId);
-		if (desc != null && manifest != null && "true".equals(manifest.get(ICoreConstants.ECLIPSE_SYSTEM_BUNDLE))) { //$NON-NLS-1$
+		if (desc != null) {
+			bundleAdded(desc, manifest);
+		}
+		return desc;
+	}
+
+	/**
+	 * Adds a description created by
+	 * {@link #createBundleDescription(Map, File, long)} from the given woven
+	 * manifest to the state.
+	 *
+	 * @param desc the new bundle description
+	 * @param manifest the manifest headers of the bundle
+	 */
+	protected void addBundleDescription(BundleDescription desc, Map<String, String> manifest) {
+		fState.addBundle(desc);
+		bundleAdded(desc, manifest);
+	}
+
+	private void bundleAdded(BundleDescription desc, Map<String, String> manifest) {
+		if (manifest != null && "true".equals(manifest.get(ICoreConstants.ECLIPSE_SYSTEM_BUNDLE))) { //$NON-NLS-1$
 			// if this is the system bundle then
 			// indicate that the javaProfile has changed since the new system
 			// bundle may not contain profiles for all EE's in the list
 			fEEListChanged = true;
 			fSystemBundle = desc.getSymbolicName();
 		}
-		if (desc != null) {
-			addAuxiliaryData(desc, manifest, true);
-		}
-		return desc;
+		addAuxiliaryData(desc, manifest, true);
 	}
 
 	protected void addAuxiliaryData(BundleDescription desc, Map<String, String> manifest, boolean hasBundleStructure) {
@@ -298,6 +332,16 @@ public class MinimalState {
 		return fState.resolve(incremental && !fullBuildRequired);
 	}
 
+	/**
+	 * Recomputes the platform properties from the current target environment
+	 * and execution environments the next time the state is resolved. The
+	 * state is resolved completely if the properties changed.
+	 */
+	public synchronized void platformPropertiesChanged() {
+		fExecutionEnvironments = null;
+		fEEListChanged = true;
+	}
+
 	protected boolean initializePlatformProperties() {
 		if (fExecutionEnvironments == null && !fNoProfile) {
 			setExecutionEnvironments();
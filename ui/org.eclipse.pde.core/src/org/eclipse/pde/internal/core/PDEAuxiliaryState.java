@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -410,6 +410,15 @@ public class PDEAuxiliaryState {
 		return result;
 	}
 
+	/**
+	 * Removes the auxiliary data of the bundle with the given id.
+	 *
+	 * @param bundleID id of a bundle of the state
+	 */
+	protected void removeAuxiliaryData(long bundleID) {
+		fPluginInfos.remove(Long.toString(bundleID));
+	}
+
 	/**
 	 * Clears the plugin info object map.
 	 */
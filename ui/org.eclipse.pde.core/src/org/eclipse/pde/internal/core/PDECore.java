@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,6 +55,7 @@ import org.eclipse.pde.internal.core.project.BundleProjectService;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
+import org.eclipse.pde.internal.core.util.ManifestCache;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.framework.FrameworkUtil;
@@ -362,6 +363,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		fJavaElementChangeListener.start();
 		fPluginRebuilder = new PluginRebuilder();
 		fPluginRebuilder.start();
+		VisiblePackagesCache.getDefault().start();
 		fFeatureRebuilder = new FeatureRebuilder();
 		fFeatureRebuilder.start();
 
@@ -385,6 +387,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 				} catch (CoreException e) {
 					getLog().warn("Can't cleanup orphaned target definition profiles, will retry later.", e); //$NON-NLS-1$
 				}
+				ManifestCache.getDefault().save();
 			}
 
 			@Override
@@ -419,6 +422,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 		fJavaElementChangeListener.shutdown();
 		fPluginRebuilder.stop();
+		VisiblePackagesCache.getDefault().stop();
+		ManifestCache.getDefault().save();
 		fFeatureRebuilder.stop();
 
 		if (fSchemaRegistry != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2025 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,12 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,6 +35,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -41,13 +47,22 @@ import org.eclipse.pde.internal.core.plugin.ExternalFragmentModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModelBase;
 import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.internal.core.util.ManifestCache;
 import org.eclipse.pde.internal.core.util.ManifestUtils;
 import org.osgi.framework.Version;
 
 public class PDEState extends MinimalState {
 
+	/**
+	 * System property to set the maximum number of target bundles read at the
+	 * same time, defaults to the number of available processors.
+	 */
+	private static final int WORKERS = Integer.getInteger("org.eclipse.pde.core.targetStateWorkers", //$NON-NLS-1$
+			Runtime.getRuntime().availableProcessors());
+
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
+	private boolean fRestored = false;
 
 	/**
 	 * Creates a new PDE State containing bundles from the given URLs.
@@ -58,11 +73,35 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, false, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param useCache whether to restore the state from and save it to the
+	 *            {@link TargetStateCache}
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, boolean useCache, IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		File[] files = new File[target.length];
+		for (int i = 0; i < target.length; i++) {
+			files[i] = toFile(target[i]);
+		}
+		TargetStateCache cache = useCache ? TargetStateCache.open(files) : null;
+		fRestored = cache != null && restoreTargetState(addResolver, cache);
+		if (!fRestored) {
+			createNewTargetState(addResolver, files, monitor);
+			if (cache != null) {
+				cache.save(fState, fSystemBundle, fAuxiliaryState);
+			}
+		}
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -77,34 +116,141 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	/**
+	 * Restores the unresolved target state saved by the given cache if it was
+	 * created for the same target bundles.
+	 *
+	 * @return <code>true</code> if the state was restored
+	 */
+	private boolean restoreTargetState(boolean resolve, TargetStateCache cache) {
+		State state = cache.readState(fAuxiliaryState);
+		if (state == null) {
+			return false;
+		}
+		fState = state;
+		if (resolve) {
+			fState.setResolver(BundleHelper.getPlatformAdmin().createResolver());
+			setSelectionPolicy();
+		}
+		if (cache.getSystemBundle() != null) {
+			fSystemBundle = cache.getSystemBundle();
+		}
+		for (BundleDescription bundle : fState.getBundles()) {
+			fId = Math.max(fId, bundle.getBundleId());
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Restored target state with " + fState.getBundles().length + " bundles from cache"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	/**
+	 * The manifest of a target bundle read by the concurrent stage of
+	 * {@link PDEState#createNewTargetState(boolean, File[], IProgressMonitor)}
+	 */
+	private record LoadedBundle(Map<String, String> manifest, CoreException error) {
+	}
+
+	/**
+	 * Creates the target state in two stages. The manifests of the target
+	 * bundles are read concurrently by up to {@link #WORKERS} threads, then the
+	 * calling thread creates the descriptions and adds them to the state in the
+	 * order of the target bundles and reports the progress. The id of a bundle
+	 * only depends on its index in the target bundles, so the ids are the same
+	 * as if the bundles were added one by one.
+	 */
+	private void createNewTargetState(boolean resolve, File[] files, IProgressMonitor monitor) {
 		fState = BundleHelper.getPlatformAdmin().getFactory().createState(resolve);
 		if (resolve) {
-			final String systemBSN = getSystemBundle();
-			Comparator<BaseDescription> policy = systemBundlesFirst(systemBSN)
-					.thenComparing(BaseDescription::getVersion, HIGHER_VERSION_FIRST)
-					.thenComparing(BaseDescription::getSupplier, HIGHER_LOCAL_VERSION_FIRST);
-			fState.getResolver().setSelectionPolicy(policy);
+			setSelectionPolicy();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
+				files.length);
+		long firstId = fId + 1;
+		fId = firstId + files.length - 1;
+		int workers = Math.max(1, Math.min(WORKERS, files.length));
+		// reading the manifests blocks on file I/O, keep it off the common pool
+		ExecutorService executor = workers <= 1 ? null : Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "PDE Target State"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<LoadedBundle>> loaded = new ArrayList<>(files.length);
+			for (int i = 0; i < files.length; i++) {
+				File file = files[i];
+				loaded.add(executor == null || file == null ? null : executor.submit(() -> loadBundle(file)));
 			}
-			try {
+			for (int i = 0; i < files.length; i++) {
+				File file = files[i];
+				if (file == null) {
+					continue;
+				}
 				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+				Future<LoadedBundle> future = loaded.get(i);
+				LoadedBundle bundle = future == null ? loadBundle(file) : getResult(future);
+				subMonitor.split(1);
+				try {
+					if (bundle.error() != null) {
+						throw bundle.error();
+					}
+					BundleDescription description = createBundleDescription(bundle.manifest(), file, firstId + i);
+					if (description != null) {
+						addBundleDescription(description, bundle.manifest());
+					}
+				} catch (CoreException e) {
+					if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+						PDECore.log(e);
+					}
 				}
 			}
-			subMonitor.split(1);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	private static LoadedBundle getResult(Future<LoadedBundle> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Reads the manifest of a target bundle, may be called from several
+	 * threads at once.
+	 */
+	private static LoadedBundle loadBundle(File file) {
+		try {
+			Map<String, String> manifest = ManifestCache.getDefault().loadManifest(file);
+			// update for development mode
+			TargetWeaver.weaveManifest(manifest, file);
+			return new LoadedBundle(manifest, null);
+		} catch (CoreException e) {
+			return new LoadedBundle(null, e);
 		}
 	}
 
+	private void setSelectionPolicy() {
+		final String systemBSN = getSystemBundle();
+		Comparator<BaseDescription> policy = systemBundlesFirst(systemBSN)
+				.thenComparing(BaseDescription::getVersion, HIGHER_VERSION_FIRST)
+				.thenComparing(BaseDescription::getSupplier, HIGHER_LOCAL_VERSION_FIRST);
+		fState.getResolver().setSelectionPolicy(policy);
+	}
+
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
 		Function<BaseDescription, Boolean> isSystemBundle = b -> systemBSN.equals(b.getSupplier().getSymbolicName());
 		return Comparator.comparing(isSystemBundle).reversed(); // false<true
@@ -161,7 +307,7 @@ public class PDEState extends MinimalState {
 	 * @return File object or {@code null} if URI can't be converted to file. In
 	 *         the later case an error is logged.
 	 */
-	private static File toFile(URI uri) {
+	static File toFile(URI uri) {
 		IPath path = URIUtil.toPath(uri);
 		if (path != null) {
 			return path.toFile();
@@ -224,10 +370,70 @@ public class PDEState extends MinimalState {
 		return model;
 	}
 
+	/**
+	 * @return <code>true</code> if the target bundles of this state were
+	 *         restored from the {@link TargetStateCache} rather than read
+	 *         again
+	 */
+	public boolean isRestoredFromCache() {
+		return fRestored;
+	}
+
 	public IPluginModelBase[] getTargetModels() {
 		return fTargetModels.toArray(new IPluginModelBase[fTargetModels.size()]);
 	}
 
+	/**
+	 * Adds a bundle to the target bundles of this state and creates its model.
+	 * A bundle with the same symbolic name and version as a target bundle of
+	 * this state is ignored.
+	 *
+	 * @param bundleLocation the location of the bundle
+	 * @return the model of the bundle or <code>null</code> if the location is
+	 *         not a bundle or a duplicate
+	 * @throws CoreException if the manifest of the bundle cannot be read
+	 */
+	public IPluginModelBase addTargetBundle(File bundleLocation) throws CoreException {
+		BundleDescription desc;
+		try {
+			desc = addBundle(bundleLocation, -1);
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() == ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				return null;
+			}
+			throw e;
+		}
+		if (desc == null) {
+			return null;
+		}
+		for (IPluginModelBase model : fTargetModels) {
+			BundleDescription other = model.getBundleDescription();
+			if (other != null && desc.getSymbolicName() != null && desc.getSymbolicName().equals(other.getSymbolicName())
+					&& desc.getVersion().equals(other.getVersion())) {
+				fState.removeBundle(desc);
+				return null;
+			}
+		}
+		IPluginModelBase model = createExternalModel(desc);
+		fTargetModels.add(model);
+		return model;
+	}
+
+	/**
+	 * Removes the given model and its bundle from the target bundles of this
+	 * state.
+	 *
+	 * @param model a model of {@link #getTargetModels()}
+	 */
+	public void removeTargetModel(IPluginModelBase model) {
+		fTargetModels.remove(model);
+		BundleDescription description = model.getBundleDescription();
+		removeBundleDescription(description);
+		if (description != null) {
+			fAuxiliaryState.removeAuxiliaryData(description.getBundleId());
+		}
+	}
+
 	/**
 	 * In previous releases the state was saved to the PDE .metadata directory.  If
 	 * any of these states are still around we should delete them.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,12 +21,16 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 
@@ -37,6 +41,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BundleDelta;
@@ -51,6 +56,7 @@ import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
@@ -112,9 +118,74 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Snapshot of the master table and of the model arrays computed from it.
+	 * The entries are shared with the master table, the arrays are computed
+	 * once per snapshot and returned to all callers.
+	 */
+	private static final class ModelTable {
+		final Map<String, LocalModelEntry> entries;
+		final String systemBundleId;
+		final IPluginModelBase[] activeModels;
+		final IPluginModelBase[] activePlugins;
+		final IPluginModelBase[] allModels;
+		final IPluginModelBase[] allPlugins;
+
+		ModelTable(Map<String, LocalModelEntry> table, String systemBundleId) {
+			this.entries = Collections.unmodifiableMap(new HashMap<>(table));
+			this.systemBundleId = systemBundleId;
+			List<IPluginModelBase> active = new ArrayList<>(table.size());
+			List<IPluginModelBase> all = new ArrayList<>(table.size());
+			for (ModelEntry entry : table.values()) {
+				Collections.addAll(active, entry.getActiveModels());
+				Collections.addAll(all, entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
+						: entry.getExternalModels());
+			}
+			activeModels = active.toArray(new IPluginModelBase[active.size()]);
+			activePlugins = active.stream().filter(IPluginModel.class::isInstance).toArray(IPluginModelBase[]::new);
+			allModels = all.toArray(new IPluginModelBase[all.size()]);
+			allPlugins = all.stream().filter(IPluginModel.class::isInstance).toArray(IPluginModelBase[]::new);
+		}
+	}
+
 	private final ExternalModelManager fExternalManager; // keeps track of changes in target models
 	private final WorkspacePluginModelManager fWorkspaceManager; // keeps track of changes in the workspace
 	private PDEState fState; // keeps the combined view of the target and workspace
+	private ReverseDependencyGraph fDependencyGraph = ReverseDependencyGraph.EMPTY; // the dependents of each bundle in the last resolved state
+
+	/**
+	 * The bundles and environment of the target platform the models were
+	 * created for, <code>null</code> if the target was not loaded completely
+	 */
+	private LoadedTarget fLoadedTarget;
+
+	/**
+	 * The locations of the bundles of a target platform with the time stamps
+	 * and sizes of their manifests, and the environment of the target
+	 */
+	private record LoadedTarget(Map<String, long[]> stamps, String environment) {
+
+		static LoadedTarget of(URI[] uris) {
+			Map<String, long[]> stamps = new HashMap<>(uris.length * 4 / 3 + 1);
+			for (URI uri : uris) {
+				File file = PDEState.toFile(uri);
+				if (file != null) {
+					stamps.put(file.getAbsolutePath(), TargetStateCache.stamp(file));
+				}
+			}
+			return new LoadedTarget(stamps, getEnvironment());
+		}
+
+		static String getEnvironment() {
+			return String.join("/", TargetPlatform.getOS(), TargetPlatform.getWS(), TargetPlatform.getOSArch(), //$NON-NLS-1$
+					TargetPlatform.getNL());
+		}
+
+		boolean isUnchanged(String location, LoadedTarget other) {
+			long[] stamp = stamps.get(location);
+			return stamp != null && Arrays.equals(stamp, other.stamps.get(location));
+		}
+	}
 
 	/**
 	 * only access synchronized with fEntriesSynchronizer
@@ -125,6 +196,13 @@ public class PluginModelManager implements IModelProviderListener {
 	 **/
 	private final Object fEntriesSynchronizer = new Object();
 
+	/**
+	 * Immutable view of fEntries published after each change of the table, read
+	 * without synchronization; <code>null</code> while the table is not
+	 * initialized
+	 */
+	private volatile ModelTable fModelTable;
+
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
 	private boolean fCancelled = false;
@@ -214,6 +292,8 @@ public class PluginModelManager implements IModelProviderListener {
 			}
 		}
 
+		publishModelTable();
+
 		if (fState != null) {
 			// if the target location has not changed, incrementally re-resolve the state after processing all the add/remove/modify changes
 			// Otherwise, the state is in a good resolved state
@@ -245,6 +325,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	private void updateAffectedEntries(StateDelta delta) {
 		Set<IProject> updates = new LinkedHashSet<>();
+		ReverseDependencyGraph previousGraph = fDependencyGraph;
+		fDependencyGraph = ReverseDependencyGraph.of(fState.getState());
 		if (delta == null) {
 			// if the delta is null, then the entire target changed.
 			// Therefore, we should update the classpath for all workspace plug-ins.
@@ -254,37 +336,64 @@ public class PluginModelManager implements IModelProviderListener {
 				updates.add(project);
 			}
 		} else {
-			BundleDelta[] deltas = delta.getChanges();
-			for (BundleDelta bundleDelta : deltas) {
-				// update classpath for workspace plug-ins that are housed in a
-				// Java project hand have been affected by the processed model
-				// changes.
+			// update classpath for workspace plug-ins that are housed in a
+			// Java project and can see one of the changed bundles, before or
+			// after the processed model changes.
+			Set<String> changed = new HashSet<>();
+			for (BundleDelta bundleDelta : delta.getChanges()) {
+				String name = bundleDelta.getBundle().getSymbolicName();
+				if (name != null) {
+					changed.add(name);
+				}
 				IPluginModelBase model = findModel(bundleDelta.getBundle());
 				IResource resource = model == null ? null : model.getUnderlyingResource();
 				if (resource != null) {
-					IProject project = resource.getProject();
-					updates.add(project);
+					updates.add(resource.getProject());
 				}
 			}
-			// do secondary dependencies
+			Set<String> affected = fDependencyGraph.getAffected(changed, previousGraph);
+			// implicit dependencies are on the classpath of every plug-in
+			boolean allAffected = DependencyManager.getImplicitDependencies().stream()
+					.anyMatch(implicit -> affected.contains(implicit.getId()));
 			IPluginModelBase[] models = getWorkspaceModels();
 			for (IPluginModelBase model : models) {
 				IProject project = model.getUnderlyingResource().getProject();
 				if (updates.contains(project)) {
 					continue;
 				}
-				try {
-					IBuild build = ClasspathUtilCore.getBuild(model);
-					if (build != null && build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES) != null) {
-						updates.add(project);
-					}
-				} catch (CoreException e) {
+				if (allAffected || affected.contains(model.getPluginBase().getId())
+						|| hasAffectedSecondaryDependency(model, affected)) {
+					updates.add(project);
 				}
 			}
 		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Classpath update requested for " + updates.size() + " of " //$NON-NLS-1$ //$NON-NLS-2$
+					+ getWorkspaceModels().length + " workspace plug-ins"); //$NON-NLS-1$
+		}
 		ClasspathContainerState.requestClasspathUpdate(updates);
 	}
 
+	/**
+	 * @return <code>true</code> if one of the secondary dependencies declared
+	 *         in the build.properties of the given plug-in is affected
+	 */
+	private static boolean hasAffectedSecondaryDependency(IPluginModelBase model, Set<String> affected) {
+		try {
+			IBuild build = ClasspathUtilCore.getBuild(model);
+			IBuildEntry entry = build == null ? null : build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES);
+			if (entry != null) {
+				for (String id : entry.getTokens()) {
+					if (affected.contains(id)) {
+						return true;
+					}
+				}
+			}
+		} catch (CoreException e) {
+		}
+		return false;
+	}
+
 	/**
 	 * Notify all interested listeners in changes made to the master table
 	 *
@@ -384,9 +493,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isEmpty() {
-		synchronized (fEntriesSynchronizer) {
-			return getEntryTable().isEmpty();
-		}
+		return getModelTable().entries.isEmpty();
 	}
 
 	/**
@@ -397,9 +504,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isInitialized() {
-		synchronized (fEntriesSynchronizer) {
-			return fEntries != null;
-		}
+		return fModelTable != null;
 	}
 
 	/**
@@ -421,10 +526,131 @@ public class PluginModelManager implements IModelProviderListener {
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
 			fEntries = null;
+			fModelTable = null;
 			initializeTable(monitor);
 		}
 	}
 
+	/**
+	 * Applies a change of the target platform to the models. Only the target
+	 * bundles that were added, removed or whose manifest changed are updated,
+	 * and the projects depending on them are notified through the usual model
+	 * and state deltas. The platform properties of the state are recomputed so
+	 * that changed execution environments are applied. All models are
+	 * recreated as in
+	 * {@link #targetReloaded(IProgressMonitor)} if they were not initialized
+	 * from a complete target, if the target environment changed or if most of
+	 * the target bundles changed.
+	 *
+	 * @param monitor progress monitor
+	 */
+	public void targetChanged(IProgressMonitor monitor) {
+		SubMonitor subMon = SubMonitor.convert(monitor, 100);
+		synchronized (fEntriesSynchronizer) {
+			if (!updateTargetBundles(subMon.split(50))) {
+				fEntries = null;
+				fModelTable = null;
+				initializeTable(subMon.split(50));
+			}
+		}
+	}
+
+	/**
+	 * Updates the target bundles that changed since the models were created.
+	 * Has to be called synchronized with fEntriesSynchronizer.
+	 *
+	 * @return <code>false</code> if the models have to be recreated instead
+	 */
+	private boolean updateTargetBundles(IProgressMonitor monitor) {
+		LoadedTarget loadedTarget = fLoadedTarget;
+		if (fEntries == null || fState == null || loadedTarget == null
+				|| !loadedTarget.environment().equals(LoadedTarget.getEnvironment())) {
+			return false;
+		}
+		try {
+			ITargetDefinition target = TargetPlatformHelper.getUnresolvedRepositoryBasedWorkspaceTarget();
+			if (target != null && !P2TargetUtils.isProfileValid(target)) {
+				return false;
+			}
+		} catch (CoreException e) {
+			PDECore.log(e);
+			return false;
+		}
+		SubMonitor subMon = SubMonitor.convert(monitor, 100);
+		long start = System.currentTimeMillis();
+		URI[] externalUris = getExternalBundles(subMon.split(80));
+		if (subMon.isCanceled()) {
+			return false;
+		}
+		LoadedTarget newTarget = LoadedTarget.of(externalUris);
+
+		IPluginModelBase[] targetModels = fState.getTargetModels();
+		List<IPluginModelBase> removed = new ArrayList<>();
+		for (IPluginModelBase model : targetModels) {
+			if (!newTarget.isUnchanged(model.getInstallLocation(), loadedTarget)) {
+				removed.add(model);
+			}
+		}
+		List<File> added = new ArrayList<>();
+		for (String location : newTarget.stamps().keySet()) {
+			if (!newTarget.isUnchanged(location, loadedTarget)) {
+				added.add(new File(location));
+			}
+		}
+		// recreating the state is faster than updating most of it, and the
+		// platform properties depend on the system bundle
+		String systemBundle = fState.getSystemBundle();
+		if ((removed.size() + added.size()) * 2 > targetModels.length
+				|| removed.stream().anyMatch(model -> systemBundle.equals(model.getPluginBase().getId()))) {
+			return false;
+		}
+		// the execution environments may have changed with the target
+		fState.platformPropertiesChanged();
+		if (removed.isEmpty() && added.isEmpty()) {
+			StateDelta stateDelta = fState.resolveState(true);
+			if (stateDelta.getChanges().length > 0) {
+				updateAffectedEntries(stateDelta);
+				fireStateDelta(stateDelta);
+			}
+		} else {
+			for (IPluginModelBase model : removed) {
+				fState.removeTargetModel(model);
+			}
+			boolean preferWorkspaceBundle = PDECore.getDefault().getPreferencesManager()
+					.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
+			List<IPluginModelBase> addedModels = new ArrayList<>(added.size());
+			for (File file : added) {
+				try {
+					IPluginModelBase model = fState.addTargetBundle(file);
+					if (model != null) {
+						addedModels.add(model);
+						// workspace bundles replace their target counterparts
+						ModelEntry entry = model.getPluginBase().getId() == null ? null
+								: fEntries.get(model.getPluginBase().getId());
+						if (preferWorkspaceBundle && entry != null && entry.hasWorkspaceModels()) {
+							fState.removeBundleDescription(model.getBundleDescription());
+						}
+					}
+				} catch (CoreException e) {
+					PDECore.log(e);
+				}
+			}
+			fExternalManager.setModels(fState.getTargetModels());
+			// removes and adds the models in the table, resolves the state and
+			// updates the classpath of the affected projects
+			modelsChangedSynchronized(new ModelProviderEvent(fExternalManager,
+					IModelProviderEvent.MODELS_ADDED | IModelProviderEvent.MODELS_REMOVED,
+					addedModels.toArray(IModel[]::new), removed.toArray(IModel[]::new), null));
+		}
+		fLoadedTarget = newTarget;
+		saveExternalPluginList(externalUris);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target changed, " + removed.size() + " target models removed and " + added.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " added in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
 	/**
 	 * Allow access to the table only through this getter.
 	 * It always calls initialize to make sure the table is initialized.
@@ -437,6 +663,32 @@ public class PluginModelManager implements IModelProviderListener {
 		return fEntries;
 	}
 
+	/**
+	 * Returns the current snapshot of the master table, initializing the table
+	 * if necessary. Callers holding the table lock see the table they are
+	 * modifying rather than the last published snapshot.
+	 */
+	private ModelTable getModelTable() {
+		ModelTable table = fModelTable;
+		if (table != null && !Thread.holdsLock(fEntriesSynchronizer)) {
+			return table;
+		}
+		synchronized (fEntriesSynchronizer) {
+			initializeTable(null);
+			return new ModelTable(fEntries, fState.getSystemBundle());
+		}
+	}
+
+	/**
+	 * Publishes a new snapshot of the master table, has to be called
+	 * synchronized with fEntriesSynchronizer after the table was modified
+	 */
+	private void publishModelTable() {
+		if (fEntries != null) {
+			fModelTable = new ModelTable(fEntries, fState.getSystemBundle());
+		}
+	}
+
 	void initialize(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
 			initializeTable(monitor);
@@ -475,8 +727,10 @@ public class PluginModelManager implements IModelProviderListener {
 			//Workspace target contains unresolved p2 repositories,
 			//set empty fState, fExternalManager, fEntries- scheduling target platform resolve
 			fState = new PDEState(new URI[0], true, true, subMon);
+			fLoadedTarget = null;
 			fExternalManager.setModels(new IPluginModelBase[0]);
 			fEntries = entries;
+			publishModelTable();
 			LoadTargetDefinitionJob.load(unresolvedRepoBasedtarget);
 			return;
 		}
@@ -494,7 +748,12 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		// a cancelled target resolution must not replace the cached target state,
+		// nor is the state reused in development mode since the dev.properties
+		// may change the class path of the bundles between launches
+		boolean useCache = !fCancelled && !Platform.inDevelopmentMode();
+		fState = new PDEState(externalUris, true, true, useCache, subMon.split(15));
+		fLoadedTarget = fCancelled ? null : LoadedTarget.of(externalUris);
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -524,9 +783,11 @@ public class PluginModelManager implements IModelProviderListener {
 
 		// Resolve the state for all external and workspace models
 		fState.resolveState(true);
+		fDependencyGraph = ReverseDependencyGraph.of(fState.getState());
 		subMon.split(5);
 
 		fEntries = entries;
+		publishModelTable();
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
 		if (oldState != null) {
@@ -779,7 +1040,7 @@ public class PluginModelManager implements IModelProviderListener {
 			// on the target platform preference page, re-add its bundle description
 			// to the state
 			BundleDescription desc = model.getBundleDescription();
-			if (desc.getContainingState().equals(fState.fState)) {
+			if (desc.getContainingState().equals(fState.fState) && fState.fState.getBundle(desc.getBundleId()) != desc) {
 				fState.addBundleDescription(desc);
 			}
 		}
@@ -904,12 +1165,19 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return a model entry containing all workspace and target plug-ins by the given ID
 	 */
 	public ModelEntry findEntry(String id) {
-		synchronized (fEntriesSynchronizer) {
-			if ("system.bundle".equals(id)) { //$NON-NLS-1$
-				id = getSystemBundleId();
+		ModelTable table = fModelTable;
+		if (table == null || Thread.holdsLock(fEntriesSynchronizer)) {
+			synchronized (fEntriesSynchronizer) {
+				if ("system.bundle".equals(id)) { //$NON-NLS-1$
+					id = getSystemBundleId();
+				}
+				return id == null ? null : (ModelEntry) getEntryTable().get(id);
 			}
-			return id == null ? null : (ModelEntry) getEntryTable().get(id);
 		}
+		if ("system.bundle".equals(id)) { //$NON-NLS-1$
+			id = table.systemBundleId;
+		}
+		return id == null ? null : table.entries.get(id);
 	}
 
 	/**
@@ -947,10 +1215,12 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 			is not a plug-in project
 	 */
 	public IPluginModelBase findModel(IProject project) {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fWorkspaceManager.getModel(project);
+		if (fModelTable == null) {
+			synchronized (fEntriesSynchronizer) {
+				initializeTable(null);
+			}
 		}
+		return fWorkspaceManager.getModel(project);
 	}
 
 	/**
@@ -1004,21 +1274,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * (possibly) fragments that are checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getActiveModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.getActiveModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
-				}
-			}
-			return result.toArray(new IPluginModelBase[result.size()]);
-		}
+		ModelTable table = getModelTable();
+		return (includeFragments ? table.activeModels : table.activePlugins).clone();
 	}
 
 	/**
@@ -1058,22 +1315,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getAllModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
-						: entry.getExternalModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
-				}
-			}
-			return result.toArray(new IPluginModelBase[result.size()]);
-		}
+		ModelTable table = getModelTable();
+		return (includeFragments ? table.allModels : table.allPlugins).clone();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -344,7 +344,21 @@ class RequiredPluginsClasspathContainer {
 		return Stream.concat(fClasspathContributors.stream(), PDECore.getDefault().getClasspathContributors());
 	}
 
+	/**
+	 * @return whether any registered {@link IClasspathContributor} is not an
+	 *         {@link IThreadSafeClasspathContributor}
+	 */
+	static boolean hasThreadUnsafeClasspathContributors() {
+		return getClasspathContributors().anyMatch(cc -> !(cc instanceof IThreadSafeClasspathContributor));
+	}
+
 	private Map<BundleDescription, LinkedHashSet<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
+		// many projects share their dependencies, reuse the rules computed
+		// for the current resolution of the state
+		return VisiblePackagesCache.getDefault().getVisiblePackages(desc, this::computeVisiblePackagesFromState);
+	}
+
+	private Map<BundleDescription, LinkedHashSet<Rule>> computeVisiblePackagesFromState(BundleDescription desc) {
 		Map<BundleDescription, LinkedHashSet<Rule>> visiblePackages = new HashMap<>();
 		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
 		addVisiblePackagesFromState(helper, desc, visiblePackages);
@@ -373,9 +387,7 @@ class RequiredPluginsClasspathContainer {
 
 	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
 		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
-		String name = export.getName();
-		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		return new Rule(path, discouraged);
+		return VisiblePackagesCache.getDefault().getRule(export.getName(), discouraged);
 	}
 
 	protected void addDependencyViaImportPackage(BundleDescription desc, Set<BundleDescription> added,
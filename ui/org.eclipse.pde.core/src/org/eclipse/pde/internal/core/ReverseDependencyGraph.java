@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import org.eclipse.osgi.service.resolver.BaseDescription;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * Snapshot of the wires of a resolved {@link State}, reversed and keyed by
+ * symbolic name. For each bundle it records the bundles that require it,
+ * import a package from it, are fragments of it or see it through one of its
+ * fragments.
+ * <p>
+ * Names rather than descriptions are used so that a snapshot taken before a
+ * bundle was updated or removed still finds the bundles that depended on it.
+ * </p>
+ */
+final class ReverseDependencyGraph {
+
+	static final ReverseDependencyGraph EMPTY = new ReverseDependencyGraph(Map.of());
+
+	private final Map<String, Set<String>> fDependents;
+
+	private ReverseDependencyGraph(Map<String, Set<String>> dependents) {
+		fDependents = dependents;
+	}
+
+	/**
+	 * Creates the reverse dependency graph of the resolved bundles of the given
+	 * state.
+	 *
+	 * @param state the state
+	 * @return the graph
+	 */
+	static ReverseDependencyGraph of(State state) {
+		Map<String, Set<String>> dependents = new HashMap<>();
+		for (BundleDescription bundle : state.getResolvedBundles()) {
+			String name = bundle.getSymbolicName();
+			if (name == null) {
+				continue;
+			}
+			for (BundleSpecification required : bundle.getRequiredBundles()) {
+				addDependency(dependents, name, required.getSupplier());
+			}
+			for (ExportPackageDescription imported : bundle.getResolvedImports()) {
+				addDependency(dependents, name, imported.getExporter());
+			}
+			HostSpecification host = bundle.getHost();
+			if (host != null) {
+				addDependency(dependents, name, host.getSupplier());
+			}
+		}
+		return new ReverseDependencyGraph(dependents);
+	}
+
+	private static void addDependency(Map<String, Set<String>> dependents, String dependent,
+			BaseDescription dependency) {
+		if (!(dependency instanceof BundleDescription bundle) || bundle.getSymbolicName() == null) {
+			return;
+		}
+		add(dependents, bundle.getSymbolicName(), dependent);
+		// the classpath of a bundle includes the fragments of its dependencies
+		for (BundleDescription fragment : bundle.getFragments()) {
+			if (fragment.getSymbolicName() != null) {
+				add(dependents, fragment.getSymbolicName(), dependent);
+			}
+		}
+	}
+
+	private static void add(Map<String, Set<String>> dependents, String dependency, String dependent) {
+		if (!dependency.equals(dependent)) {
+			dependents.computeIfAbsent(dependency, d -> new HashSet<>()).add(dependent);
+		}
+	}
+
+	/**
+	 * Returns the given bundles and all bundles depending on them directly or
+	 * transitively in this graph or in the other graph, which is typically the
+	 * snapshot of the state before it was resolved again.
+	 *
+	 * @param names the symbolic names of the changed bundles
+	 * @param other the other graph
+	 * @return the symbolic names of the affected bundles
+	 */
+	Set<String> getAffected(Collection<String> names, ReverseDependencyGraph other) {
+		Set<String> affected = new HashSet<>(names);
+		Queue<String> queue = new ArrayDeque<>(names);
+		List<Map<String, Set<String>>> graphs = List.of(fDependents, other.fDependents);
+		while (!queue.isEmpty()) {
+			String name = queue.remove();
+			for (Map<String, Set<String>> dependents : graphs) {
+				for (String dependent : dependents.getOrDefault(name, Set.of())) {
+					if (affected.add(dependent)) {
+						queue.add(dependent);
+					}
+				}
+			}
+		}
+		return affected;
+	}
+}
@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.core.PDEAuxiliaryState.PluginInfo;
+import org.eclipse.pde.internal.core.util.ManifestCache;
+
+/**
+ * Persistent cache of the target platform state, stored in the PDE state
+ * location.
+ * <p>
+ * The cache is addressed by a digest of the target bundle locations and the
+ * time stamps and sizes of their manifests. If the digest of a target
+ * matches the cached one, the serialized {@link State} and the auxiliary data
+ * of the bundles are restored without opening any bundle. Otherwise the state
+ * is created again, with the manifests of the bundles that did not change
+ * served by the {@link ManifestCache}.
+ * </p>
+ * <p>
+ * The state is saved before it is resolved, restoring it is thus equivalent
+ * to adding the bundles again.
+ * </p>
+ */
+final class TargetStateCache {
+
+	private static final int MAGIC = 0x50444554; // "PDET"
+	private static final int VERSION = 2;
+
+	private static final String CACHE_DIRECTORY = "target_state"; //$NON-NLS-1$
+	private static final String BUNDLES_FILE = "bundles.bin"; //$NON-NLS-1$
+	private static final String STATE_FILE = "state.bin"; //$NON-NLS-1$
+
+	private final File fDirectory;
+	private final byte[] fDigest;
+
+	private byte[] fCachedDigest;
+	private String fSystemBundle;
+	private Map<String, PluginInfo> fPluginInfos;
+
+	private TargetStateCache(File directory, File[] files) {
+		fDirectory = directory;
+		fDigest = digest(files);
+	}
+
+	/**
+	 * Opens the target state cache in the PDE state location for the given
+	 * target bundles.
+	 *
+	 * @param files the target bundle locations, <code>null</code> elements are
+	 *            skipped
+	 * @return the cache, never <code>null</code>
+	 */
+	static TargetStateCache open(File[] files) {
+		File directory = PDECore.getDefault().getStateLocation().append(CACHE_DIRECTORY).toFile();
+		TargetStateCache cache = new TargetStateCache(directory, files);
+		cache.readBundles();
+		return cache;
+	}
+
+	/**
+	 * Returns if the cached state was created for the same target bundles.
+	 */
+	boolean isUpToDate() {
+		return fCachedDigest != null && Arrays.equals(fCachedDigest, fDigest);
+	}
+
+	/**
+	 * Restores the cached state and the auxiliary data of its bundles.
+	 *
+	 * @param auxiliaryState the auxiliary state to fill
+	 * @return the state or <code>null</code> if the cache is not up to date or
+	 *         cannot be read
+	 */
+	@SuppressWarnings("deprecation")
+	State readState(PDEAuxiliaryState auxiliaryState) {
+		if (!isUpToDate() || fPluginInfos == null) {
+			return null;
+		}
+		File file = new File(fDirectory, STATE_FILE);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (InputStream stream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+			State state = BundleHelper.getPlatformAdmin().getFactory().readState(stream);
+			auxiliaryState.fPluginInfos.putAll(fPluginInfos);
+			return state;
+		} catch (IOException | RuntimeException e) {
+			// a corrupt cache is not fatal, the state is created again
+			PDECore.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * @return the symbolic name of the system bundle of the cached state
+	 */
+	String getSystemBundle() {
+		return fSystemBundle;
+	}
+
+	/**
+	 * Saves the given unresolved state, replacing the previous cache.
+	 *
+	 * @param state the state of the target bundles
+	 * @param systemBundle the symbolic name of the system bundle
+	 * @param auxiliaryState the auxiliary data of the bundles of the state
+	 */
+	@SuppressWarnings("deprecation")
+	void save(State state, String systemBundle, PDEAuxiliaryState auxiliaryState) {
+		try {
+			Files.createDirectories(fDirectory.toPath());
+			StateObjectFactory factory = BundleHelper.getPlatformAdmin().getFactory();
+			Path stateFile = new File(fDirectory, STATE_FILE).toPath();
+			Path bundlesFile = new File(fDirectory, BUNDLES_FILE).toPath();
+			Path tempState = Files.createTempFile(fDirectory.toPath(), STATE_FILE, null);
+			Path tempBundles = Files.createTempFile(fDirectory.toPath(), BUNDLES_FILE, null);
+			try {
+				try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(tempState))) {
+					factory.writeState(state, stream);
+				}
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempBundles)))) {
+					writeBundles(out, systemBundle, auxiliaryState.fPluginInfos);
+				}
+				// the bundles file holds the digest, replace it last
+				Files.move(tempState, stateFile, StandardCopyOption.REPLACE_EXISTING);
+				Files.move(tempBundles, bundlesFile, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(tempState);
+				Files.deleteIfExists(tempBundles);
+			}
+		} catch (IOException | RuntimeException e) {
+			PDECore.log(e);
+		}
+	}
+
+	private void readBundles() {
+		File file = new File(fDirectory, BUNDLES_FILE);
+		if (!file.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			byte[] digest = new byte[in.readInt()];
+			in.readFully(digest);
+			String systemBundle = readString(in);
+			int count = in.readInt();
+			Map<String, PluginInfo> pluginInfos = new HashMap<>(count * 4 / 3 + 1);
+			for (int i = 0; i < count; i++) {
+				String bundleId = readString(in);
+				pluginInfos.put(bundleId, readPluginInfo(in));
+			}
+			fCachedDigest = digest;
+			fSystemBundle = systemBundle;
+			fPluginInfos = pluginInfos;
+		} catch (IOException | RuntimeException e) {
+			// a corrupt cache is not fatal, all bundles are read again
+			PDECore.log(e);
+		}
+	}
+
+	private void writeBundles(DataOutputStream out, String systemBundle, Map<String, PluginInfo> pluginInfos) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(fDigest.length);
+		out.write(fDigest);
+		writeString(out, systemBundle);
+		out.writeInt(pluginInfos.size());
+		for (Entry<String, PluginInfo> entry : pluginInfos.entrySet()) {
+			writeString(out, entry.getKey());
+			writePluginInfo(out, entry.getValue());
+		}
+	}
+
+	private static PluginInfo readPluginInfo(DataInputStream in) throws IOException {
+		PluginInfo info = new PluginInfo();
+		info.name = readString(in);
+		info.providerName = readString(in);
+		info.className = readString(in);
+		info.hasExtensibleAPI = in.readBoolean();
+		info.isPatchFragment = in.readBoolean();
+		info.hasBundleStructure = in.readBoolean();
+		int libraries = in.readInt();
+		if (libraries >= 0) {
+			info.libraries = new String[libraries];
+			for (int i = 0; i < libraries; i++) {
+				info.libraries[i] = readString(in);
+			}
+		}
+		info.project = readString(in);
+		info.localization = readString(in);
+		info.bundleSourceEntry = readString(in);
+		info.exportsExternalAnnotations = in.readBoolean();
+		info.platformFilter = readString(in);
+		return info;
+	}
+
+	private static void writePluginInfo(DataOutputStream out, PluginInfo info) throws IOException {
+		writeString(out, info.name);
+		writeString(out, info.providerName);
+		writeString(out, info.className);
+		out.writeBoolean(info.hasExtensibleAPI);
+		out.writeBoolean(info.isPatchFragment);
+		out.writeBoolean(info.hasBundleStructure);
+		if (info.libraries == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(info.libraries.length);
+			for (String library : info.libraries) {
+				writeString(out, library);
+			}
+		}
+		writeString(out, info.project);
+		writeString(out, info.localization);
+		writeString(out, info.bundleSourceEntry);
+		out.writeBoolean(info.exportsExternalAnnotations);
+		writeString(out, info.platformFilter);
+	}
+
+	/**
+	 * Writes a nullable string, manifest headers can exceed the length
+	 * supported by {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the time stamp and size of the file the manifest of the given
+	 * bundle location is read from.
+	 *
+	 * @see ManifestCache#getManifestSource(File)
+	 */
+	static long[] stamp(File file) {
+		File manifest = ManifestCache.getManifestSource(file);
+		return new long[] { manifest.lastModified(), manifest.length() };
+	}
+
+	private static byte[] digest(File[] files) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] buffer = new byte[16];
+			for (File file : files) {
+				if (file == null) {
+					continue;
+				}
+				digest.update(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+				long[] stamp = stamp(file);
+				for (int j = 0; j < 8; j++) {
+					buffer[j] = (byte) (stamp[0] >>> (56 - 8 * j));
+					buffer[8 + j] = (byte) (stamp[1] >>> (56 - 8 * j));
+				}
+				digest.update(buffer);
+			}
+			return digest.digest();
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is supported by every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.Rule;
+
+/**
+ * Caches the access rules of the packages visible to a bundle, i.e. the
+ * result of the <code>StateHelper.getVisiblePackages</code> lookup of the
+ * bundle and its host grouped by exporter, and the access rules of the
+ * exported packages.
+ * <p>
+ * An entry is only returned for the state time stamp it was computed at. The
+ * cache is cleared whenever the state of the model manager is resolved or
+ * replaced, so entries of previous states are not kept alive.
+ * </p>
+ */
+final class VisiblePackagesCache implements IStateDeltaListener {
+
+	private static final VisiblePackagesCache fgDefault = new VisiblePackagesCache();
+
+	private record CachedRules(State state, long timeStamp, Map<BundleDescription, LinkedHashSet<Rule>> rules) {
+	}
+
+	private final Map<BundleDescription, CachedRules> fRules = new ConcurrentHashMap<>();
+
+	/**
+	 * The access rules of exported packages, shared by the projects importing
+	 * them; the first element is the accessible rule, the second the
+	 * discouraged one
+	 */
+	private final Map<String, Rule[]> fPackageRules = new ConcurrentHashMap<>();
+
+	private VisiblePackagesCache() {
+	}
+
+	static VisiblePackagesCache getDefault() {
+		return fgDefault;
+	}
+
+	public void start() {
+		PDECore.getDefault().getModelManager().addStateDeltaListener(this);
+	}
+
+	public void stop() {
+		PDECore.getDefault().getModelManager().removeStateDeltaListener(this);
+		fRules.clear();
+		fPackageRules.clear();
+	}
+
+	/**
+	 * Returns the visible package rules of the given bundle, computing them if
+	 * they are not cached for the current time stamp of its state. The returned
+	 * map and its values must not be modified.
+	 *
+	 * @param desc the bundle
+	 * @param compute computes the rules of a bundle
+	 * @return the rules of the packages visible to the bundle, keyed by
+	 *         exporter
+	 */
+	Map<BundleDescription, LinkedHashSet<Rule>> getVisiblePackages(BundleDescription desc,
+			Function<BundleDescription, Map<BundleDescription, LinkedHashSet<Rule>>> compute) {
+		State state = desc.getContainingState();
+		if (state == null) {
+			return compute.apply(desc);
+		}
+		long timeStamp = state.getTimeStamp();
+		CachedRules cached = fRules.get(desc);
+		if (cached != null && cached.state() == state && cached.timeStamp() == timeStamp) {
+			return cached.rules();
+		}
+		Map<BundleDescription, LinkedHashSet<Rule>> rules = Collections.unmodifiableMap(compute.apply(desc));
+		// the state may have been resolved again during the computation
+		if (state.getTimeStamp() == timeStamp) {
+			fRules.put(desc, new CachedRules(state, timeStamp, rules));
+		}
+		return rules;
+	}
+
+	/**
+	 * Returns the shared access rule of the given exported package.
+	 *
+	 * @param packageName the name of the package
+	 * @param discouraged whether the access to the package is discouraged
+	 * @return the access rule
+	 */
+	Rule getRule(String packageName, boolean discouraged) {
+		Rule[] rules = fPackageRules.computeIfAbsent(packageName, name -> {
+			IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return new Rule[] { new Rule(path, false), new Rule(path, true) };
+		});
+		return rules[discouraged ? 1 : 0];
+	}
+
+	@Override
+	public void stateResolved(StateDelta delta) {
+		// the visible packages of a bundle depend on the resolution of all
+		// bundles it wires to, so any change invalidates every entry
+		if (delta == null || delta.getChanges().length > 0) {
+			fRules.clear();
+		}
+	}
+
+	@Override
+	public void stateChanged(State newState) {
+		fRules.clear();
+		fPackageRules.clear();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Christoph Läubrich and others.
+ * Copyright (c) 2022, 2026 Christoph Läubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.IStateDeltaListener;
+import org.eclipse.pde.internal.core.IThreadSafeClasspathContributor;
 import org.eclipse.pde.internal.core.PDECore;
 import org.osgi.resource.Resource;
 import org.osgi.service.component.annotations.Activate;
@@ -46,7 +47,7 @@ import org.osgi.service.component.annotations.Deactivate;
  * the target platform.
  */
 @Component(service = IClasspathContributor.class)
-public class OSGiAnnotationsClasspathContributor implements IClasspathContributor, IStateDeltaListener {
+public class OSGiAnnotationsClasspathContributor implements IThreadSafeClasspathContributor, IStateDeltaListener {
 
 	private static final int CHANGE_FLAGS = BundleDelta.ADDED | BundleDelta.REMOVED | BundleDelta.UPDATED;
 
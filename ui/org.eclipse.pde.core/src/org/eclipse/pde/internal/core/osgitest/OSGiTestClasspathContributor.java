@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 Christoph Läubrich and others.
+ * Copyright (c) 2025, 2026 Christoph Läubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,7 @@ import org.eclipse.pde.internal.core.ClasspathContainerState;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.IStateDeltaListener;
+import org.eclipse.pde.internal.core.IThreadSafeClasspathContributor;
 import org.eclipse.pde.internal.core.PDECore;
 import org.osgi.resource.Resource;
 import org.osgi.service.component.annotations.Activate;
@@ -67,7 +68,7 @@ import org.osgi.service.component.annotations.ReferencePolicy;
  */
 @Component(service = IClasspathContributor.class)
 public class OSGiTestClasspathContributor
-		implements IClasspathContributor, IStateDeltaListener, IResourceChangeListener {
+		implements IThreadSafeClasspathContributor, IStateDeltaListener, IResourceChangeListener {
 
 	private static final int CHANGE_FLAGS = BundleDelta.ADDED | BundleDelta.REMOVED | BundleDelta.UPDATED;
 
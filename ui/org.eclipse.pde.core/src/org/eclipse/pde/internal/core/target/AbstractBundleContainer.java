@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,10 @@ package org.eclipse.pde.internal.core.target;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -67,6 +70,34 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 
 	private static final HashMap<AbstractBundleContainer, String[]> fVMArgsCache = new HashMap<>();
 
+	/**
+	 * The resolution of a container together with the fingerprint of the
+	 * content it was computed for
+	 */
+	private record Resolution(String fingerprint, TargetBundle[] bundles, TargetFeature[] features) {
+	}
+
+	/**
+	 * Maximum number of cached resolutions
+	 */
+	private static final int MAX_RESOLUTIONS = 32;
+
+	/**
+	 * The last resolutions of containers that provide a content fingerprint,
+	 * keyed by container, so that an equal container of another target
+	 * definition or a new instance of the same target is not resolved again
+	 * while its content did not change
+	 */
+	private static final Map<AbstractBundleContainer, Resolution> fgResolutions = Collections
+			.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<AbstractBundleContainer, Resolution> eldest) {
+					return size() > MAX_RESOLUTIONS;
+				}
+			});
+
 	/**
 	 * Resolves any string substitution variables in the given text returning
 	 * the result.
@@ -92,12 +123,23 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 
 		SubMonitor subMonitor = SubMonitor.convert(monitor, resolveBundlesWork + resolveFeaturesWork);
 		try {
+			String fingerprint = getContentFingerprint(definition);
+			Resolution cached = fingerprint == null ? null : fgResolutions.get(this);
+			if (cached != null && cached.fingerprint().equals(fingerprint)) {
+				// the content did not change since it was last resolved
+				fBundles = cached.bundles();
+				fFeatures = cached.features();
+				fResolutionStatus = Status.OK_STATUS;
+				return fResolutionStatus;
+			}
 			fResolutionStatus = Status.OK_STATUS;
 			fBundles = resolveBundles(definition, subMonitor.split(resolveBundlesWork));
 			fFeatures = resolveFeatures(definition, subMonitor.split(resolveFeaturesWork));
 			if (subMonitor.isCanceled()) {
 				fBundles = null;
 				fResolutionStatus = Status.CANCEL_STATUS;
+			} else if (fingerprint != null) {
+				fgResolutions.put(this, new Resolution(fingerprint, fBundles, fFeatures));
 			}
 		} catch (CoreException e) {
 			fBundles = new TargetBundle[0];
@@ -213,6 +255,30 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 	 */
 	protected void clearResolutionStatus() {
 		fResolutionStatus = null;
+		fgResolutions.remove(this);
+	}
+
+	/**
+	 * Returns a fingerprint of the content of this container. When a container
+	 * is resolved and an equal container was resolved before for the same
+	 * fingerprint, the previous bundles and features are reused instead of
+	 * reading them again.
+	 * <p>
+	 * The fingerprint must change whenever the result of
+	 * {@link #resolveBundles(ITargetDefinition, IProgressMonitor)} or
+	 * {@link #resolveFeatures(ITargetDefinition, IProgressMonitor)} may change,
+	 * and must be considerably cheaper to compute than these methods. Returns
+	 * <code>null</code> by default, containers without a fingerprint are always
+	 * resolved again.
+	 * </p>
+	 *
+	 * @param definition target context
+	 * @return the fingerprint or <code>null</code> if this container has to be
+	 *         resolved
+	 * @throws CoreException if the content of the container cannot be accessed
+	 */
+	protected String getContentFingerprint(ITargetDefinition definition) throws CoreException {
+		return null;
 	}
 
 	@Override
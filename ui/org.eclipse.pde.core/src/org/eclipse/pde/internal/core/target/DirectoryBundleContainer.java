@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,13 @@
 package org.eclipse.pde.internal.core.target;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.Objects;
+import java.util.jar.JarFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,6 +33,7 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.core.ICoreConstants;
 
 /**
  * A directory of bundles.
@@ -111,6 +117,52 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
 	}
 
+	/**
+	 * Digests the names, sizes and time stamps of the entries of the plug-in
+	 * and feature directories, of the manifests, plugin.xml and fragment.xml
+	 * files of directory bundles and of the feature files of directory
+	 * features.
+	 */
+	@Override
+	protected String getContentFingerprint(ITargetDefinition definition) throws CoreException {
+		File dir = getDirectory();
+		if (!dir.isDirectory()) {
+			return null;
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			digest.update(dir.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+			digestEntries(digest, getSite(dir), JarFile.MANIFEST_NAME, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR,
+					ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR);
+			digestEntries(digest, getFeatureSite(dir), ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	private static void digestEntries(MessageDigest digest, File site, String... descriptors) {
+		File[] files = site.listFiles();
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files);
+		for (File file : files) {
+			digest.update(file.getName().getBytes(StandardCharsets.UTF_8));
+			digestStamp(digest, file);
+			if (file.isDirectory()) {
+				for (String descriptor : descriptors) {
+					digestStamp(digest, new File(file, descriptor));
+				}
+			}
+		}
+	}
+
+	private static void digestStamp(MessageDigest digest, File file) {
+		String stamp = file.lastModified() + ":" + file.length() + ";"; //$NON-NLS-1$ //$NON-NLS-2$
+		digest.update(stamp.getBytes(StandardCharsets.US_ASCII));
+	}
+
 	/**
 	 * Returns the directory to search for bundles in.
 	 *
@@ -0,0 +1,336 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.equinox.internal.p2.director.QueryableArray;
+import org.eclipse.equinox.p2.core.ProvisionException;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.io.IUDeserializer;
+import org.eclipse.equinox.p2.metadata.io.IUSerializer;
+import org.eclipse.equinox.p2.query.IQuery;
+import org.eclipse.equinox.p2.query.IQueryResult;
+import org.eclipse.equinox.p2.query.IQueryable;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.ICompositeRepository;
+import org.eclipse.equinox.p2.repository.IRepositoryReference;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.equinox.p2.repository.spi.RepositoryReference;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Index of the installable units and references of a local metadata
+ * repository, stored next to the {@link P2TargetUtils#BUNDLE_POOL bundle pool}.
+ * <p>
+ * An index is valid as long as the time stamps and sizes of the index files of
+ * the repository and of all its children, if it is a composite repository, did
+ * not change. Reading an index is much faster than loading the repository
+ * again in a new session since it avoids decompressing and parsing the
+ * compressed content of every child. Only repositories whose children are all
+ * local are indexed. The units are queried through a {@link QueryableArray},
+ * which indexes them by id and capability for the slicer.
+ * </p>
+ */
+public final class MetadataRepositoryIndex implements IQueryable<IInstallableUnit> {
+
+	private static final int MAGIC = 0x50444d49; // "PDMI"
+	private static final int VERSION = 1;
+
+	/**
+	 * Directory of the index files, next to the bundle pool
+	 */
+	private static final IPath INDEX_LOCATION = P2TargetUtils.BUNDLE_POOL.removeLastSegments(1)
+			.append(".metadata_index"); //$NON-NLS-1$
+
+	/**
+	 * The files of a repository whose changes invalidate its index
+	 */
+	private static final List<String> REPOSITORY_FILES = List.of("content.jar", "content.xml", "content.xml.xz", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"compositeContent.jar", "compositeContent.xml", "p2.index"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	/**
+	 * Indexes read in this session, validated against the stamps of their
+	 * repositories before they are returned
+	 */
+	private static final Map<URI, SoftReference<MetadataRepositoryIndex>> fgIndexes = new ConcurrentHashMap<>();
+
+	private final URI fLocation;
+	private final Map<String, long[]> fStamps;
+	private final List<IRepositoryReference> fReferences;
+	private final IQueryable<IInstallableUnit> fUnits;
+	private final int fSize;
+
+	private MetadataRepositoryIndex(URI location, Map<String, long[]> stamps, List<IRepositoryReference> references,
+			Collection<IInstallableUnit> units) {
+		fLocation = location;
+		fStamps = stamps;
+		fReferences = references;
+		fUnits = new QueryableArray(units.toArray(IInstallableUnit[]::new));
+		fSize = units.size();
+	}
+
+	/**
+	 * Returns the index of the given repository if it was indexed and did not
+	 * change since.
+	 *
+	 * @param location the location of a metadata repository
+	 * @return the index or <code>null</code>
+	 */
+	public static MetadataRepositoryIndex read(URI location) {
+		if (URIUtil.toFile(location) == null) {
+			return null;
+		}
+		SoftReference<MetadataRepositoryIndex> reference = fgIndexes.get(location);
+		MetadataRepositoryIndex index = reference == null ? null : reference.get();
+		if (index == null) {
+			index = readIndex(location);
+			if (index == null) {
+				return null;
+			}
+			fgIndexes.put(location, new SoftReference<>(index));
+		}
+		if (!index.isUpToDate()) {
+			fgIndexes.remove(location);
+			return null;
+		}
+		return index;
+	}
+
+	/**
+	 * Forgets the indexes read or written in this session, they are read from
+	 * their index files again.
+	 */
+	public static void clearCache() {
+		fgIndexes.clear();
+	}
+
+	/**
+	 * Indexes the given repository if it and all its children are local
+	 * repositories.
+	 *
+	 * @param location the location the repository was loaded from
+	 * @param repository the loaded repository
+	 * @param manager the manager that loaded the repository
+	 * @return the index or <code>null</code> if the repository is not indexed
+	 */
+	public static MetadataRepositoryIndex write(URI location, IMetadataRepository repository,
+			IMetadataRepositoryManager manager) {
+		Map<String, long[]> stamps = new LinkedHashMap<>();
+		try {
+			if (!addStamps(repository, manager, stamps)) {
+				return null;
+			}
+		} catch (ProvisionException e) {
+			return null;
+		}
+		Set<IInstallableUnit> units = repository.query(QueryUtil.createIUAnyQuery(), null).toUnmodifiableSet();
+		List<IRepositoryReference> references = new ArrayList<>(repository.getReferences());
+		MetadataRepositoryIndex index = new MetadataRepositoryIndex(location, stamps, references, units);
+		try {
+			Path file = getIndexFile(location);
+			Files.createDirectories(file.getParent());
+			Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), null);
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					index.writeHeader(out);
+					out.flush();
+					Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+					try {
+						DeflaterOutputStream content = new DeflaterOutputStream(out, deflater);
+						new IUSerializer(content).write(units);
+						content.finish();
+					} finally {
+						deflater.end();
+					}
+				}
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException | RuntimeException e) {
+			// the repository is loaded again the next time
+			PDECore.log(e);
+		}
+		fgIndexes.put(location, new SoftReference<>(index));
+		return index;
+	}
+
+	/**
+	 * Collects the stamps of the index files of the given repository and of its
+	 * children.
+	 *
+	 * @return <code>false</code> if a repository is not local
+	 */
+	private static boolean addStamps(IMetadataRepository repository, IMetadataRepositoryManager manager,
+			Map<String, long[]> stamps) throws ProvisionException {
+		File directory = URIUtil.toFile(repository.getLocation());
+		if (directory == null) {
+			return false;
+		}
+		for (String name : REPOSITORY_FILES) {
+			File file = new File(directory, name);
+			stamps.put(file.getAbsolutePath(), stamp(file));
+		}
+		if (repository instanceof ICompositeRepository<?> composite) {
+			for (URI child : composite.getChildren()) {
+				// the children are already loaded with their composite
+				if (!addStamps(manager.loadRepository(child, null), manager, stamps)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static long[] stamp(File file) {
+		return new long[] { file.lastModified(), file.length() };
+	}
+
+	private boolean isUpToDate() {
+		for (Entry<String, long[]> entry : fStamps.entrySet()) {
+			long[] stamp = stamp(new File(entry.getKey()));
+			if (stamp[0] != entry.getValue()[0] || stamp[1] != entry.getValue()[1]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static MetadataRepositoryIndex readIndex(URI location) {
+		Path file = getIndexFile(location);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !location.toString().equals(in.readUTF())) {
+				return null;
+			}
+			int stampCount = in.readInt();
+			Map<String, long[]> stamps = new LinkedHashMap<>();
+			for (int i = 0; i < stampCount; i++) {
+				stamps.put(in.readUTF(), new long[] { in.readLong(), in.readLong() });
+			}
+			int referenceCount = in.readInt();
+			List<IRepositoryReference> references = new ArrayList<>(referenceCount);
+			for (int i = 0; i < referenceCount; i++) {
+				URI referenceLocation = URI.create(in.readUTF());
+				String nickname = in.readBoolean() ? in.readUTF() : null;
+				references.add(new RepositoryReference(referenceLocation, nickname, in.readInt(), in.readInt()));
+			}
+			try (InputStream content = new InflaterInputStream(in)) {
+				Set<IInstallableUnit> units = new IUDeserializer().read(content);
+				return new MetadataRepositoryIndex(location, stamps, references, units);
+			}
+		} catch (IOException | RuntimeException e) {
+			// a corrupt index is not fatal, the repository is loaded again
+			PDECore.log(e);
+			return null;
+		}
+	}
+
+	private void writeHeader(DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeUTF(fLocation.toString());
+		out.writeInt(fStamps.size());
+		for (Entry<String, long[]> entry : fStamps.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeLong(entry.getValue()[0]);
+			out.writeLong(entry.getValue()[1]);
+		}
+		out.writeInt(fReferences.size());
+		for (IRepositoryReference reference : fReferences) {
+			out.writeUTF(reference.getLocation().toString());
+			out.writeBoolean(reference.getNickname() != null);
+			if (reference.getNickname() != null) {
+				out.writeUTF(reference.getNickname());
+			}
+			out.writeInt(reference.getType());
+			out.writeInt(reference.getOptions());
+		}
+	}
+
+	private static Path getIndexFile(URI location) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			String name = HexFormat.of().formatHex(digest.digest(location.toString().getBytes(StandardCharsets.UTF_8)));
+			return INDEX_LOCATION.append(name + ".index").toPath(); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is supported by every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return the location of the indexed repository
+	 */
+	public URI getLocation() {
+		return fLocation;
+	}
+
+	/**
+	 * @return the references of the indexed repository
+	 */
+	public List<IRepositoryReference> getReferences() {
+		return fReferences;
+	}
+
+	/**
+	 * @return the number of indexed units
+	 */
+	public int size() {
+		return fSize;
+	}
+
+	@Override
+	public IQueryResult<IInstallableUnit> query(IQuery<IInstallableUnit> query, IProgressMonitor monitor) {
+		return fUnits.query(query, monitor);
+	}
+
+	@Override
+	public boolean contains(IInstallableUnit element) {
+		return fUnits.contains(element);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2024 EclipseSource Inc. and others.
+ * Copyright (c) 2010, 2026 EclipseSource Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1033,15 +1033,19 @@ public class P2TargetUtils {
 		int work = repos.size() * (forceReload ? 4 : 2);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, work);
 		Set<IRepositoryReference> seen = new HashSet<>();
-		List<IMetadataRepository> result = new ArrayList<>(repos.size());
-		List<IMetadataRepository> additional = new ArrayList<>();
+		List<IQueryable<IInstallableUnit>> result = new ArrayList<>(repos.size());
+		List<IQueryable<IInstallableUnit>> additional = new ArrayList<>();
 		MultiStatus repoStatus = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.IUBundleContainer_ProblemsLoadingRepositories);
 		for (URI location : repos) {
 			try {
-				IMetadataRepository repository = metadataRepositoryManager.loadRepository(location, subMonitor.split(1));
+				// repositories are refreshed below, the index is only used
+				// when they are not
+				IQueryable<IInstallableUnit> repository = loadMetadata(location, !forceReload,
+						metadataRepositoryManager, subMonitor.split(1));
 				result.add(repository);
 				if (followRepositoryReferences) {
-					addReferences(repository, additional, seen, metadataRepositoryManager, subMonitor.split(1));
+					addReferences(repository, additional, seen, !forceReload, metadataRepositoryManager,
+							subMonitor.split(1));
 				}
 			} catch (ProvisionException e) {
 				repoStatus.add(e.getStatus());
@@ -1054,15 +1058,18 @@ public class P2TargetUtils {
 		if (result.isEmpty()) {
 			return QueryUtil.compoundQueryable(List.of());
 		}
-		Collection<IMetadataRepository> unique = new LinkedHashSet<>(result);
+		Collection<IQueryable<IInstallableUnit>> unique = new LinkedHashSet<>(result);
 		if (forceReload) {
-			List<IMetadataRepository> refreshed = new ArrayList<>();
+			List<IQueryable<IInstallableUnit>> refreshed = new ArrayList<>();
 			subMonitor.setWorkRemaining(2 * unique.size());
 			IArtifactRepositoryManager artifactRepositoryManager = getArtifactRepositoryManager();
 			metadataRepositoryManager = getRepoManager();
 			Collection<URI> existingArtifactRepositories = new LinkedHashSet<>(
 					Arrays.asList(artifactRepositoryManager.getKnownRepositories(IRepositoryManager.REPOSITORIES_ALL)));
-			for (IMetadataRepository metadataRepository : unique) {
+			for (IQueryable<IInstallableUnit> queryable : unique) {
+				// repositories are always loaded through the manager when
+				// they are refreshed
+				IMetadataRepository metadataRepository = (IMetadataRepository) queryable;
 				URI location = metadataRepository.getLocation();
 				if (existing.contains(location)) {
 					try {
@@ -1095,17 +1102,46 @@ public class P2TargetUtils {
 		return QueryUtil.compoundQueryable(unique);
 	}
 
-	private static void addReferences(IMetadataRepository repository, List<IMetadataRepository> result,
-			Set<IRepositoryReference> seen, IMetadataRepositoryManager manager, IProgressMonitor monitor) {
-		Collection<IRepositoryReference> references = repository.getReferences();
+	/**
+	 * Returns the metadata of the given repository. If <code>useIndex</code>
+	 * is set, a local repository is served from its
+	 * {@link MetadataRepositoryIndex} if it did not change since it was
+	 * indexed, and it is indexed otherwise.
+	 */
+	private static IQueryable<IInstallableUnit> loadMetadata(URI location, boolean useIndex,
+			IMetadataRepositoryManager manager, IProgressMonitor monitor) throws ProvisionException {
+		if (useIndex) {
+			MetadataRepositoryIndex index = MetadataRepositoryIndex.read(location);
+			if (index != null) {
+				return index;
+			}
+		}
+		IMetadataRepository repository = manager.loadRepository(location, monitor);
+		if (useIndex) {
+			MetadataRepositoryIndex.write(location, repository, manager);
+		}
+		return repository;
+	}
+
+	private static Collection<IRepositoryReference> getReferences(IQueryable<IInstallableUnit> repository) {
+		if (repository instanceof MetadataRepositoryIndex index) {
+			return index.getReferences();
+		}
+		return ((IMetadataRepository) repository).getReferences();
+	}
+
+	private static void addReferences(IQueryable<IInstallableUnit> repository,
+			List<IQueryable<IInstallableUnit>> result, Set<IRepositoryReference> seen, boolean useIndex,
+			IMetadataRepositoryManager manager, IProgressMonitor monitor) {
+		Collection<IRepositoryReference> references = getReferences(repository);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, references.size() * 2);
 		for (IRepositoryReference reference : references) {
 			if (reference.getType() == IRepository.TYPE_METADATA && reference.isEnabled() && seen.add(reference)) {
 				try {
-					IMetadataRepository referencedRepository = manager.loadRepository(reference.getLocation(),
-							subMonitor.split(1));
+					IQueryable<IInstallableUnit> referencedRepository = loadMetadata(reference.getLocation(),
+							useIndex, manager, subMonitor.split(1));
 					result.add(referencedRepository);
-					addReferences(referencedRepository, result, seen, manager, subMonitor.split(1));
+					addReferences(referencedRepository, result, seen, useIndex, manager, subMonitor.split(1));
 				} catch (ProvisionException e) {
 					//if reference can't be loaded just ignore it here but log the error just in case the user wants to act on this
 					PDECore.log(e);
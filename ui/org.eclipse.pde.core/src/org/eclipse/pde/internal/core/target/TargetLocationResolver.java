@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Resolves the locations of a target definition.
+ * <p>
+ * Every location that is not a software site is resolved on its own, the
+ * software site locations sharing a {@link P2TargetUtils} synchronizer are
+ * resolved together once the synchronizer updated their profile. These units
+ * of work run concurrently; if one of them is canceled or fails, the others
+ * are canceled as well. The problems are merged in the order they would have
+ * when the locations are resolved one after another: the problems of the
+ * plain locations in the order of the target, then the problems reported by
+ * the synchronizers, then the problems of the software site locations.
+ * </p>
+ */
+final class TargetLocationResolver {
+
+	/**
+	 * System property to set the maximum number of target locations resolved
+	 * at the same time, defaults to the number of available processors.
+	 */
+	static final String WORKERS_PROPERTY = "org.eclipse.pde.core.targetResolutionWorkers"; //$NON-NLS-1$
+
+	private static final int WORKERS = Integer.getInteger(WORKERS_PROPERTY,
+			Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * A location that is not a software site, or all software site locations
+	 * of a synchronizer
+	 */
+	private record Task(P2TargetUtils synchronizer, List<ITargetLocation> locations) {
+
+		int work() {
+			return synchronizer == null ? 100 : 100 + locations.size();
+		}
+	}
+
+	/**
+	 * The problems and resolution times of a task
+	 */
+	private record Result(List<IStatus> problems, List<IStatus> synchronizerProblems,
+			Map<ITargetLocation, Duration> times) {
+
+		Result() {
+			this(new ArrayList<>(), new ArrayList<>(), new IdentityHashMap<>());
+		}
+	}
+
+	private final ITargetDefinition fTarget;
+	private final List<Task> fTasks = new ArrayList<>();
+
+	TargetLocationResolver(ITargetDefinition target, ITargetLocation[] locations) {
+		fTarget = target;
+		Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
+		for (ITargetLocation location : locations) {
+			P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
+			if (synchronizer == null) {
+				// a usual target definition location
+				fTasks.add(new Task(null, List.of(location)));
+			} else {
+				// has to be performed in a separate batch
+				synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
+			}
+		}
+		synchronizers.forEach((synchronizer, group) -> fTasks.add(new Task(synchronizer, group)));
+	}
+
+	/**
+	 * Resolves the locations.
+	 *
+	 * @param monitor the progress monitor
+	 * @return the merged status of the locations
+	 * @throws OperationCanceledException if the resolution was canceled
+	 */
+	TargetResolutionStatus resolve(IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1,
+				fTasks.stream().mapToInt(Task::work).sum());
+		AtomicBoolean canceled = new AtomicBoolean();
+		List<Result> results = new ArrayList<>(fTasks.size());
+		int workers = Math.max(1, Math.min(WORKERS, fTasks.size()));
+		if (workers == 1) {
+			for (Task task : fTasks) {
+				results.add(run(task, new TaskMonitor(subMonitor, task.work(), canceled)));
+			}
+			return merge(results);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "PDE Target Resolution"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<Result>> futures = new ArrayList<>(fTasks.size());
+			for (Task task : fTasks) {
+				TaskMonitor taskMonitor = new TaskMonitor(subMonitor, task.work(), canceled);
+				futures.add(executor.submit(() -> {
+					try {
+						return run(task, taskMonitor);
+					} catch (RuntimeException | Error e) {
+						// no need to resolve the other locations
+						canceled.set(true);
+						throw e;
+					}
+				}));
+			}
+			// wait for all tasks, none of them may still modify its locations
+			// after this method returned; a failure wins over a cancellation
+			RuntimeException failure = null;
+			for (Future<Result> future : futures) {
+				try {
+					results.add(getResult(future));
+				} catch (RuntimeException e) {
+					if (failure == null || failure instanceof OperationCanceledException) {
+						failure = e;
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			canceled.set(true);
+			throw new OperationCanceledException();
+		} finally {
+			executor.shutdown();
+		}
+		return merge(results);
+	}
+
+	private Result run(Task task, IProgressMonitor monitor) {
+		Result result = new Result();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, task.work());
+		subMonitor.checkCanceled();
+		if (task.synchronizer() == null) {
+			ITargetLocation location = task.locations().get(0);
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			long start = System.nanoTime();
+			IStatus s = location.resolve(fTarget, subMonitor.split(100));
+			if (!s.isOK()) {
+				result.problems().add(s);
+			}
+			result.times().put(location, Duration.ofNanos(System.nanoTime() - start));
+			return result;
+		}
+		long start = System.nanoTime();
+		try {
+			task.synchronizer().synchronize(fTarget, subMonitor.split(100));
+			task.locations().stream().map(ITargetLocation::getStatus).filter(s -> s != null && !s.isOK())
+					.forEach(result.synchronizerProblems()::add);
+		} catch (CoreException e) {
+			PDECore.log(e.getStatus());
+			result.synchronizerProblems().add(e.getStatus());
+		}
+		long synchronizeNanos = System.nanoTime() - start;
+		for (ITargetLocation location : task.locations()) {
+			long locationStart = System.nanoTime();
+			IStatus s = location.resolve(fTarget, subMonitor.split(1));
+			if (!s.isOK()) {
+				result.problems().add(s);
+			}
+			// the locations are resolved by the shared synchronization
+			result.times().put(location, Duration.ofNanos(synchronizeNanos + System.nanoTime() - locationStart));
+		}
+		return result;
+	}
+
+	private TargetResolutionStatus merge(List<Result> results) {
+		TargetResolutionStatus status = new TargetResolutionStatus();
+		for (int i = 0; i < results.size(); i++) {
+			if (fTasks.get(i).synchronizer() == null) {
+				results.get(i).problems().forEach(status::add);
+			}
+		}
+		for (Result result : results) {
+			result.synchronizerProblems().forEach(status::add);
+		}
+		for (int i = 0; i < results.size(); i++) {
+			if (fTasks.get(i).synchronizer() != null) {
+				results.get(i).problems().forEach(status::add);
+			}
+		}
+		for (Result result : results) {
+			result.times().forEach(status::setResolutionTime);
+		}
+		if (PDECore.DEBUG_MODEL) {
+			status.getResolutionTimes().forEach((location, time) -> System.out
+					.println("Resolved " + location + " in " + time.toMillis() + " ms")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return status;
+	}
+
+	private static Result getResult(Future<Result> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Progress monitor of a task, reporting the progress of the task to the
+	 * shared monitor of the resolution. It is canceled when the resolution is
+	 * canceled or when another task was canceled or failed.
+	 */
+	private static final class TaskMonitor implements IProgressMonitor {
+
+		private final IProgressMonitor fParent;
+		private final int fTicks;
+		private final AtomicBoolean fCanceled;
+		private double fTotalWork;
+		private double fWorked;
+		private double fReported;
+
+		TaskMonitor(IProgressMonitor parent, int ticks, AtomicBoolean canceled) {
+			fParent = parent;
+			fTicks = ticks;
+			fCanceled = canceled;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			fTotalWork = totalWork;
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			if (fTotalWork <= 0) {
+				return;
+			}
+			fWorked = Math.min(fTotalWork, fWorked + work);
+			report(fWorked * fTicks / fTotalWork);
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public void done() {
+			report(fTicks);
+		}
+
+		private void report(double reported) {
+			double delta = reported - fReported;
+			if (delta > 0) {
+				fReported = reported;
+				synchronized (fParent) {
+					fParent.internalWorked(delta);
+				}
+			}
+		}
+
+		@Override
+		public void subTask(String name) {
+			synchronized (fParent) {
+				fParent.subTask(name);
+			}
+		}
+
+		@Override
+		public void setTaskName(String name) {
+			// the task name of the resolution is kept
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return fCanceled.get() || fParent.isCanceled();
+		}
+
+		@Override
+		public void setCanceled(boolean value) {
+			if (value) {
+				fCanceled.set(true);
+			}
+		}
+	}
+}
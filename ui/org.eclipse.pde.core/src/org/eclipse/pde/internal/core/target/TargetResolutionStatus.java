@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Status returned by {@link TargetDefinition#resolve(org.eclipse.core.runtime.IProgressMonitor)}
+ * if problems were reported, {@link org.eclipse.core.runtime.Status#OK_STATUS}
+ * is returned otherwise. Its children are the problems of the target
+ * locations, it also records how long the resolution of each location took.
+ *
+ * @see TargetDefinition#getResolutionTimes()
+ */
+public class TargetResolutionStatus extends MultiStatus {
+
+	private final Map<ITargetLocation, Duration> fTimes = new IdentityHashMap<>();
+
+	TargetResolutionStatus() {
+		super(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2);
+	}
+
+	void setResolutionTime(ITargetLocation location, Duration time) {
+		fTimes.put(location, time);
+	}
+
+	/**
+	 * Returns the time taken to resolve the given location. The time of a
+	 * software site location includes the synchronization of the p2 profile it
+	 * shares with the other software site locations of the target.
+	 *
+	 * @param location a location of the resolved target
+	 * @return the resolution time or <code>null</code> if the location was not
+	 *         resolved
+	 */
+	public Duration getResolutionTime(ITargetLocation location) {
+		return fTimes.get(location);
+	}
+
+	/**
+	 * @return the resolution times of the resolved locations of the target
+	 */
+	public Map<ITargetLocation, Duration> getResolutionTimes() {
+		return Collections.unmodifiableMap(fTimes);
+	}
+}
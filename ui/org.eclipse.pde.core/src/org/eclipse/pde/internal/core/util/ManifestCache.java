@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Bounded cache of the manifest headers of target bundles, saved in the PDE
+ * state location between sessions.
+ * <p>
+ * Entries are keyed by the canonical path of a bundle and validated against
+ * the size and time stamp of the file its manifest is read from, see
+ * {@link #getManifestSource(File)}. Locations that are not bundles are cached
+ * as well. Only bundles that are not edited in the workspace should be
+ * loaded through this cache, workspace manifests are read with
+ * {@link ManifestUtils#loadManifest(File)}.
+ * </p>
+ */
+public final class ManifestCache {
+
+	/**
+	 * System property to set the maximum number of cached manifests
+	 */
+	public static final String SIZE_PROPERTY = "org.eclipse.pde.core.manifestCacheSize"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x50444d46; // "PDMF"
+	private static final int VERSION = 1;
+	private static final String CACHE_FILE = "manifests.bin"; //$NON-NLS-1$
+
+	/**
+	 * The files a manifest may be read from in a directory bundle, in the
+	 * order they are looked up
+	 */
+	private static final String[] MANIFEST_SOURCES = { JarFile.MANIFEST_NAME,
+			ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR };
+
+	private static ManifestCache fgDefault;
+
+	/**
+	 * The cached manifest of a bundle location
+	 */
+	private record CachedManifest(long lastModified, long length, Map<String, String> manifest, String error) {
+	}
+
+	private final int fMaxSize;
+	private final File fFile;
+	private final Map<String, CachedManifest> fManifests;
+	private final AtomicLong fHits = new AtomicLong();
+	private final AtomicLong fMisses = new AtomicLong();
+	private boolean fDirty;
+
+	private ManifestCache(File file, int maxSize) {
+		fFile = file;
+		fMaxSize = Math.max(0, maxSize);
+		fManifests = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedManifest> eldest) {
+				return size() > fMaxSize;
+			}
+		};
+	}
+
+	/**
+	 * @return the manifest cache of the workspace
+	 */
+	public static synchronized ManifestCache getDefault() {
+		if (fgDefault == null) {
+			PDECore core = PDECore.getDefault();
+			File file = core == null ? null : core.getStateLocation().append(CACHE_FILE).toFile();
+			fgDefault = new ManifestCache(file, Integer.getInteger(SIZE_PROPERTY, 20000));
+			fgDefault.read();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Loads the manifest of the given bundle, from the cache if the bundle did
+	 * not change since it was cached.
+	 *
+	 * @param bundleLocation the archive or directory of the bundle
+	 * @return a modifiable copy of the manifest headers
+	 * @throws CoreException if the manifest cannot be read or the location is
+	 *             not a bundle
+	 * @see ManifestUtils#loadManifest(File)
+	 */
+	public Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		String key = getKey(bundleLocation);
+		File manifestFile = getManifestSource(bundleLocation);
+		long lastModified = manifestFile.lastModified();
+		long length = manifestFile.length();
+		CachedManifest cached;
+		synchronized (this) {
+			cached = fManifests.get(key);
+		}
+		if (cached != null && cached.lastModified() == lastModified && cached.length() == length) {
+			fHits.incrementAndGet();
+			return copy(cached);
+		}
+		fMisses.incrementAndGet();
+		CachedManifest loaded;
+		try {
+			Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+			loaded = new CachedManifest(lastModified, length, new HashMap<>(manifest), null);
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				throw e;
+			}
+			loaded = new CachedManifest(lastModified, length, null, e.getStatus().getMessage());
+		}
+		synchronized (this) {
+			fManifests.put(key, loaded);
+			fDirty = true;
+		}
+		return copy(loaded);
+	}
+
+	/**
+	 * Returns the file whose changes change the manifest of the given bundle
+	 * location. That is the archive itself, the manifest file of a directory
+	 * bundle or, for a directory without manifest file, its
+	 * <code>plugin.xml</code> or <code>fragment.xml</code>. The directory itself
+	 * is returned if it has none of them, its time stamp changes once one of
+	 * them is added.
+	 *
+	 * @param bundleLocation the archive or directory of a bundle
+	 * @return the file to stamp the manifest of the bundle with
+	 */
+	public static File getManifestSource(File bundleLocation) {
+		if (!bundleLocation.isDirectory()) {
+			return bundleLocation;
+		}
+		for (String name : MANIFEST_SOURCES) {
+			File file = new File(bundleLocation, name);
+			if (file.isFile()) {
+				return file;
+			}
+		}
+		return bundleLocation;
+	}
+
+	private static Map<String, String> copy(CachedManifest cached) throws CoreException {
+		if (cached.manifest() == null) {
+			throw new CoreException(new Status(IStatus.ERROR, PDECore.PLUGIN_ID,
+					ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST, cached.error(), null));
+		}
+		// manifest headers are case insensitive
+		Map<String, String> manifest = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		manifest.putAll(cached.manifest());
+		return manifest;
+	}
+
+	private static String getKey(File bundleLocation) {
+		try {
+			return bundleLocation.getCanonicalPath();
+		} catch (IOException e) {
+			return bundleLocation.getAbsolutePath();
+		}
+	}
+
+	/**
+	 * @return the number of manifests served from the cache
+	 */
+	public long getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return the number of manifests read from their bundles
+	 */
+	public long getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * @return the number of cached manifests
+	 */
+	public synchronized int size() {
+		return fManifests.size();
+	}
+
+	/**
+	 * Saves the cache to the PDE state location if it changed since it was read
+	 */
+	public void save() {
+		List<Entry<String, CachedManifest>> entries;
+		synchronized (this) {
+			if (!fDirty || fFile == null) {
+				return;
+			}
+			entries = new ArrayList<>(fManifests.entrySet());
+			fDirty = false;
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Manifest cache: " + entries.size() + " entries, " + getHits() + " hits, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ getMisses() + " misses"); //$NON-NLS-1$
+		}
+		try {
+			Path target = fFile.toPath();
+			Files.createDirectories(target.getParent());
+			Path temp = Files.createTempFile(target.getParent(), CACHE_FILE, null);
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(entries.size());
+					// least recently used first, so that reading restores the order
+					for (Entry<String, CachedManifest> entry : entries) {
+						CachedManifest cached = entry.getValue();
+						writeString(out, entry.getKey());
+						out.writeLong(cached.lastModified());
+						out.writeLong(cached.length());
+						if (cached.manifest() == null) {
+							out.writeInt(-1);
+							writeString(out, cached.error());
+						} else {
+							out.writeInt(cached.manifest().size());
+							for (Entry<String, String> header : cached.manifest().entrySet()) {
+								writeString(out, header.getKey());
+								writeString(out, header.getValue());
+							}
+						}
+					}
+				}
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	private void read() {
+		if (fFile == null || !fFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fFile.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			Map<String, CachedManifest> manifests = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				String key = readString(in);
+				long lastModified = in.readLong();
+				long length = in.readLong();
+				int headers = in.readInt();
+				if (headers < 0) {
+					manifests.put(key, new CachedManifest(lastModified, length, null, readString(in)));
+				} else {
+					Map<String, String> manifest = new HashMap<>(headers * 4 / 3 + 1);
+					for (int j = 0; j < headers; j++) {
+						manifest.put(readString(in), readString(in));
+					}
+					manifests.put(key, new CachedManifest(lastModified, length, manifest, null));
+				}
+			}
+			synchronized (this) {
+				fManifests.putAll(manifests);
+			}
+		} catch (IOException | RuntimeException e) {
+			// a corrupt cache is not fatal, the manifests are read again
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Writes a nullable string, manifest headers can exceed the length
+	 * supported by {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,9 +116,16 @@ public class BundleLauncherHelper {
 
 		ILaunchConfigurationWorkingCopy wc = getWorkingCopy(configuration);
 		if (!osgi) {
-
 			migrateLaunchConfiguration(wc);
+		} else {
+			migrateOsgiLaunchConfiguration(wc);
+		}
+		BundleMapCache.Kind kind = osgi ? BundleMapCache.Kind.MERGED_OSGI : BundleMapCache.Kind.MERGED;
+		return BundleMapCache.get(kind, wc, features, computedFeatures -> computeMergedBundleMap(configuration, wc, osgi, computedFeatures));
+	}
 
+	private static Map<IPluginModelBase, String> computeMergedBundleMap(ILaunchConfiguration configuration, ILaunchConfigurationWorkingCopy wc, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
+		if (!osgi) {
 			if (wc.getAttribute(IPDELauncherConstants.USE_DEFAULT, true)) {
 				Map<IPluginModelBase, String> map = new LinkedHashMap<>();
 				for (IPluginModelBase model : PluginRegistry.getActiveModels()) {
@@ -137,8 +144,6 @@ public class BundleLauncherHelper {
 				return map;
 			}
 
-		} else {
-			migrateOsgiLaunchConfiguration(wc);
 		}
 
 		if (wc.getAttribute(IPDELauncherConstants.USE_CUSTOM_FEATURES, false)) {
@@ -158,6 +163,10 @@ public class BundleLauncherHelper {
 	}
 
 	public static Map<IPluginModelBase, String> getAllSelectedPluginBundles(ILaunchConfiguration config) throws CoreException {
+		return BundleMapCache.get(BundleMapCache.Kind.SELECTED, config, null, features -> computeAllSelectedPluginBundles(config));
+	}
+
+	private static Map<IPluginModelBase, String> computeAllSelectedPluginBundles(ILaunchConfiguration config) throws CoreException {
 		Map<String, List<Version>> idVersions = new HashMap<>();
 		Map<IPluginModelBase, String> map = getWorkspaceBundleMap(config, idVersions);
 		map.putAll(getTargetBundleMap(config, idVersions));
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+
+/**
+ * Immutable snapshots of the bundle maps computed by
+ * {@link BundleLauncherHelper} for launch configurations.
+ * <p>
+ * A snapshot is keyed by the name and the attributes of the launch
+ * configuration, so a working copy that is edited in a launch tab computes a
+ * new map while the launch of the saved configuration reuses the map computed
+ * for its tabs. All snapshots are discarded when plug-in or feature models
+ * change, the snapshots of a configuration are discarded when it is changed or
+ * removed.
+ * </p>
+ */
+final class BundleMapCache {
+
+	/**
+	 * The computed bundle map
+	 */
+	enum Kind {
+		MERGED, MERGED_OSGI, SELECTED
+	}
+
+	@FunctionalInterface
+	interface Computation {
+		Map<IPluginModelBase, String> compute(Map<IFeature, Boolean> features) throws CoreException;
+	}
+
+	private record Key(Kind kind, String name, Map<String, Object> attributes, boolean withFeatures) {
+	}
+
+	private record Snapshot(Map<IPluginModelBase, String> bundles, Map<IFeature, Boolean> features) {
+
+		Snapshot {
+			bundles = Collections.unmodifiableMap(new LinkedHashMap<>(bundles));
+			features = features == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(features));
+		}
+
+		Map<IPluginModelBase, String> restore(Map<IFeature, Boolean> featuresOut) {
+			if (featuresOut != null) {
+				featuresOut.putAll(features);
+			}
+			// callers add bundles to the returned map
+			return new LinkedHashMap<>(bundles);
+		}
+	}
+
+	private static final int MAX_SNAPSHOTS = 16;
+
+	private static final Map<Key, Snapshot> fgSnapshots = new LinkedHashMap<Key, Snapshot>(MAX_SNAPSHOTS, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<Key, Snapshot> eldest) {
+			return size() > MAX_SNAPSHOTS;
+		}
+	};
+
+	/**
+	 * Incremented whenever the snapshots are discarded, a map computed while
+	 * the models changed is not recorded
+	 */
+	private static long fgGeneration;
+
+	private static final IPluginModelListener PLUGIN_MODEL_LISTENER = delta -> clear();
+	private static final IFeatureModelListener FEATURE_MODEL_LISTENER = delta -> clear();
+	private static boolean fgListening;
+
+	private BundleMapCache() { // static use only
+	}
+
+	/**
+	 * Returns the bundle map of the given configuration, computing it if the
+	 * configuration or the models changed since it was last computed.
+	 *
+	 * @param kind the computed bundle map
+	 * @param configuration the launch configuration
+	 * @param features map receiving the launched features, may be
+	 *            <code>null</code>
+	 * @param computation computes the map and the launched features
+	 * @return a new modifiable map of the launched bundles to their start data
+	 * @throws CoreException if the map cannot be computed
+	 */
+	static Map<IPluginModelBase, String> get(Kind kind, ILaunchConfiguration configuration,
+			Map<IFeature, Boolean> features, Computation computation) throws CoreException {
+		Key key = new Key(kind, configuration.getName(), copyAttributes(configuration.getAttributes()),
+				features != null);
+		long generation;
+		synchronized (fgSnapshots) {
+			startListening();
+			Snapshot snapshot = fgSnapshots.get(key);
+			if (snapshot != null) {
+				return snapshot.restore(features);
+			}
+			generation = fgGeneration;
+		}
+		Map<IFeature, Boolean> computedFeatures = features == null ? null : new LinkedHashMap<>();
+		Snapshot snapshot = new Snapshot(computation.compute(computedFeatures), computedFeatures);
+		synchronized (fgSnapshots) {
+			if (generation == fgGeneration) {
+				fgSnapshots.put(key, snapshot);
+			}
+		}
+		return snapshot.restore(features);
+	}
+
+	/**
+	 * Discards the snapshots of the given launch configuration.
+	 *
+	 * @param configuration a changed or removed launch configuration
+	 */
+	static void invalidate(ILaunchConfiguration configuration) {
+		String name = configuration.getName();
+		synchronized (fgSnapshots) {
+			fgSnapshots.keySet().removeIf(key -> key.name().equals(name));
+		}
+	}
+
+	/**
+	 * Discards all snapshots.
+	 */
+	static void clear() {
+		synchronized (fgSnapshots) {
+			fgSnapshots.clear();
+			fgGeneration++;
+		}
+	}
+
+	/**
+	 * Stops listening to model changes and discards all snapshots.
+	 */
+	static void shutdown() {
+		synchronized (fgSnapshots) {
+			if (fgListening) {
+				PDECore.getDefault().getModelManager().removePluginModelListener(PLUGIN_MODEL_LISTENER);
+				PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(FEATURE_MODEL_LISTENER);
+				fgListening = false;
+			}
+		}
+		clear();
+	}
+
+	private static void startListening() {
+		if (!fgListening) {
+			PDECore.getDefault().getModelManager().addPluginModelListener(PLUGIN_MODEL_LISTENER);
+			PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(FEATURE_MODEL_LISTENER);
+			fgListening = true;
+		}
+	}
+
+	/**
+	 * Copies the collection values of the attributes, working copies share
+	 * them with the attributes they return
+	 */
+	private static Map<String, Object> copyAttributes(Map<String, Object> attributes) {
+		Map<String, Object> copy = new HashMap<>(attributes);
+		for (Entry<String, Object> entry : copy.entrySet()) {
+			if (entry.getValue() instanceof List<?> list) {
+				entry.setValue(new ArrayList<>(list));
+			} else if (entry.getValue() instanceof Set<?> set) {
+				entry.setValue(new LinkedHashSet<>(set));
+			} else if (entry.getValue() instanceof Map<?, ?> map) {
+				entry.setValue(new HashMap<>(map));
+			}
+		}
+		return copy;
+	}
+}
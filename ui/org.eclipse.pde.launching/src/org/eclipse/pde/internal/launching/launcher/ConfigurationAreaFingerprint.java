@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.launching.IPDELauncherConstants;
+
+/**
+ * Fingerprint of the generated content of a configuration area: the launch
+ * configuration attributes, the target platform, and the location, version
+ * and start data of every launched bundle.
+ * <p>
+ * When a launch configuration launches incrementally and the fingerprint of
+ * the launch matches the fingerprint recorded by the previous launch, the
+ * <code>config.ini</code> and <code>bundles.info</code> files are kept as
+ * they are. The launched framework then keeps its cache instead of installing
+ * and resolving all bundles again. Workspace bundles whose manifest or
+ * build files changed since the previous launch are invalidated on their own.
+ * </p>
+ */
+public final class ConfigurationAreaFingerprint {
+
+	private static final String FILE_NAME = ".pde.fingerprint"; //$NON-NLS-1$
+	private static final String CONFIG_INI = "config.ini"; //$NON-NLS-1$
+	private static final String MANIFESTS_CACHE = "org.eclipse.osgi/manifests"; //$NON-NLS-1$
+
+	private static final String ATTRIBUTES_KEY = "attributes"; //$NON-NLS-1$
+	private static final String TARGET_KEY = "target"; //$NON-NLS-1$
+	private static final String BUNDLE_PREFIX = "bundle."; //$NON-NLS-1$
+	private static final String STAMP_PREFIX = "stamp."; //$NON-NLS-1$
+
+	/**
+	 * The files of a workspace bundle the launched framework reads
+	 */
+	private static final String[] WORKSPACE_FILES = { ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+			ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR,
+			ICoreConstants.BUILD_FILENAME_DESCRIPTOR };
+
+	private final boolean fIncremental;
+	private final Properties fProperties = new Properties();
+	private final Map<String, IPluginModelBase> fWorkspaceBundles = new TreeMap<>();
+
+	private ConfigurationAreaFingerprint(boolean incremental) {
+		fIncremental = incremental;
+	}
+
+	/**
+	 * Computes the fingerprint of a launch.
+	 *
+	 * @param configuration the launch configuration
+	 * @param bundlesWithStartLevels map of the launched bundles to their start
+	 *            data
+	 * @return the fingerprint
+	 * @throws CoreException if the attributes of the configuration cannot be
+	 *             read
+	 */
+	public static ConfigurationAreaFingerprint compute(ILaunchConfiguration configuration,
+			Map<IPluginModelBase, String> bundlesWithStartLevels) throws CoreException {
+		ConfigurationAreaFingerprint fingerprint = new ConfigurationAreaFingerprint(
+				configuration.getAttribute(IPDELauncherConstants.CONFIG_INCREMENTAL_AREA, false));
+		if (!fingerprint.fIncremental) {
+			return fingerprint;
+		}
+		Properties properties = fingerprint.fProperties;
+		properties.setProperty(ATTRIBUTES_KEY, digest(new TreeMap<>(configuration.getAttributes()).toString()));
+		String target = TargetPlatform.getLocation();
+		properties.setProperty(TARGET_KEY, target + '|' + stamp(new File(target, "configuration/" + CONFIG_INI))); //$NON-NLS-1$
+		String template = configuration.getAttribute(IPDELauncherConstants.CONFIG_TEMPLATE_LOCATION, (String) null);
+		if (template != null) {
+			properties.setProperty(IPDELauncherConstants.CONFIG_TEMPLATE_LOCATION, stamp(new File(template)));
+		}
+		for (Entry<IPluginModelBase, String> entry : bundlesWithStartLevels.entrySet()) {
+			IPluginModelBase model = entry.getKey();
+			String location = model.getInstallLocation();
+			if (location == null) {
+				continue;
+			}
+			properties.setProperty(BUNDLE_PREFIX + location, model.getPluginBase().getId() + '_'
+					+ model.getPluginBase().getVersion() + '@' + entry.getValue());
+			if (model.getUnderlyingResource() != null) {
+				StringBuilder stamps = new StringBuilder();
+				for (String file : WORKSPACE_FILES) {
+					stamps.append(stamp(new File(location, file))).append(';');
+				}
+				properties.setProperty(STAMP_PREFIX + location, stamps.toString());
+				fingerprint.fWorkspaceBundles.put(location, model);
+			}
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Returns the properties of the <code>config.ini</code> in the given
+	 * configuration area if it can be launched again as it is. Workspace
+	 * bundles that changed since the previous launch are invalidated in the
+	 * framework cache of the area.
+	 *
+	 * @param configurationDirectory the configuration area
+	 * @return the properties of the existing <code>config.ini</code> or
+	 *         <code>null</code> if the configuration files have to be written
+	 */
+	public Properties reuse(File configurationDirectory) {
+		if (!fIncremental) {
+			return null;
+		}
+		File configIni = new File(configurationDirectory, CONFIG_INI);
+		Properties previous = load(new File(configurationDirectory, FILE_NAME));
+		if (previous == null || !configIni.isFile() || !previous.keySet().equals(fProperties.keySet())) {
+			return null;
+		}
+		List<IPluginModelBase> changed = new ArrayList<>();
+		for (String key : fProperties.stringPropertyNames()) {
+			String value = fProperties.getProperty(key);
+			if (value.equals(previous.getProperty(key))) {
+				continue;
+			}
+			if (!key.startsWith(STAMP_PREFIX)) {
+				return null;
+			}
+			changed.add(fWorkspaceBundles.get(key.substring(STAMP_PREFIX.length())));
+		}
+		Properties properties = load(configIni);
+		if (properties == null) {
+			return null;
+		}
+		if (!changed.isEmpty()) {
+			invalidate(configurationDirectory, changed);
+			save(configurationDirectory);
+		}
+		return properties;
+	}
+
+	/**
+	 * Records this fingerprint in the given configuration area once its
+	 * configuration files were written.
+	 *
+	 * @param configurationDirectory the configuration area
+	 */
+	public void save(File configurationDirectory) {
+		File file = new File(configurationDirectory, FILE_NAME);
+		if (!fIncremental) {
+			// a later incremental launch must not trust a stale fingerprint
+			file.delete();
+			return;
+		}
+		LaunchConfigurationHelper.save(file, fProperties);
+	}
+
+	/**
+	 * Removes the manifests the framework generated for the given bundles.
+	 * Changes to the manifest of a bundle are detected by the framework itself
+	 * since launches always run in development mode.
+	 */
+	private static void invalidate(File configurationDirectory, List<IPluginModelBase> bundles) {
+		File manifests = new File(configurationDirectory, MANIFESTS_CACHE);
+		if (!manifests.isDirectory()) {
+			return;
+		}
+		for (IPluginModelBase model : bundles) {
+			new File(manifests, model.getPluginBase().getId() + '_' + model.getPluginBase().getVersion() + ".MF").delete(); //$NON-NLS-1$
+		}
+	}
+
+	private static Properties load(File file) {
+		if (!file.isFile()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (FileInputStream stream = new FileInputStream(file)) {
+			properties.load(stream);
+			return properties;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static String stamp(File file) {
+		return file.lastModified() + ":" + file.length(); //$NON-NLS-1$
+	}
+
+	private static String digest(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is supported by every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+}
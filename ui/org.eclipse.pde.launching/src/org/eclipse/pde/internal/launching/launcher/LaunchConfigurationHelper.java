@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -145,7 +145,11 @@ public class LaunchConfigurationHelper {
 	 * @return a properties object containing the properties written out to config.ini
 	 */
 	public static Properties createConfigIniFile(ILaunchConfiguration configuration, String productID, Map<String, List<IPluginModelBase>> bundles, Map<IFeature, Boolean> features, Map<IPluginModelBase, String> bundlesWithStartLevels, File configurationDirectory) throws CoreException {
-		Properties properties = null;
+		ConfigurationAreaFingerprint fingerprint = ConfigurationAreaFingerprint.compute(configuration, bundlesWithStartLevels);
+		Properties properties = fingerprint.reuse(configurationDirectory);
+		if (properties != null) {
+			return properties;
+		}
 		// if we are to generate a config.ini, start with the values in the target platform's config.ini - bug 141918
 		if (configuration.getAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, true)) {
 			String appID = configuration.getAttribute(IPDELauncherConstants.APPLICATION, (String) null);
@@ -238,6 +242,7 @@ public class LaunchConfigurationHelper {
 		setBundleLocations(bundles, properties, autostart);
 
 		save(new File(configurationDirectory, "config.ini"), properties); //$NON-NLS-1$
+		fingerprint.save(configurationDirectory);
 		return properties;
 	}
 
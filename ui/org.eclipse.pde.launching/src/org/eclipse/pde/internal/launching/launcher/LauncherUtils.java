@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2021 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -320,6 +320,7 @@ public class LauncherUtils {
 	}
 
 	public static final void shutdown() {
+		BundleMapCache.shutdown();
 		if (fLastRun == null) {
 			return;
 		}
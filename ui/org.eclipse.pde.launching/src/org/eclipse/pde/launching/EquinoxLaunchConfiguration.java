@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
 import org.eclipse.pde.internal.launching.PDEMessages;
 import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
+import org.eclipse.pde.internal.launching.launcher.ConfigurationAreaFingerprint;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchPluginValidator;
 import org.eclipse.pde.internal.launching.launcher.LaunchValidationOperation;
@@ -96,6 +97,10 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 	}
 
 	private void saveConfigurationFile(ILaunchConfiguration configuration) throws CoreException {
+		ConfigurationAreaFingerprint fingerprint = ConfigurationAreaFingerprint.compute(configuration, fModels);
+		if (fingerprint.reuse(getConfigDir(configuration)) != null) {
+			return;
+		}
 		Properties properties = new Properties();
 		properties.setProperty("osgi.install.area", "file:" + TargetPlatform.getLocation()); //$NON-NLS-1$ //$NON-NLS-2$
 		properties.setProperty("osgi.configuration.cascaded", "false"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -130,6 +135,7 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 		}
 
 		LaunchConfigurationHelper.save(new File(getConfigDir(configuration), "config.ini"), properties); //$NON-NLS-1$
+		fingerprint.save(getConfigDir(configuration));
 	}
 
 	private String getBundles(boolean defaultAuto) {
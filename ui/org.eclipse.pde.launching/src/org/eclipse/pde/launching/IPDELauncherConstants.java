@@ -311,6 +311,20 @@ public interface IPDELauncherConstants {
 	*/
 	String CONFIG_CLEAR_AREA = "clearConfig"; //$NON-NLS-1$
 
+	/**
+	 * Launch configuration attribute key. The value is a boolean specifying
+	 * if the configuration files of the configuration area should be kept when
+	 * the launched bundles, their start levels and locations, and the launch
+	 * configuration did not change since the previous launch. Keeping them
+	 * allows the launched framework to reuse its cache.
+	 *
+	 * This key is ignored when CONFIG_CLEAR_AREA is <code>true</code>.
+	 *
+	 * @see IPDELauncherConstants#CONFIG_CLEAR_AREA
+	 * @since 3.14
+	 */
+	String CONFIG_INCREMENTAL_AREA = "incrementalConfig"; //$NON-NLS-1$
+
 	/**
 	 * Launch configuration atribute key.  The value is a boolean specifying
 	 * if PDE should generate a default config.ini file for the launch.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
 import org.eclipse.pde.ui.tests.classpathresolver.ClasspathResolverTest;
+import org.eclipse.pde.ui.tests.classpathupdater.AffectedClasspathUpdateTest;
 import org.eclipse.pde.ui.tests.classpathupdater.ClasspathContainerStateTest;
 import org.eclipse.pde.ui.tests.classpathupdater.ClasspathUpdaterTest;
 import org.eclipse.pde.ui.tests.ee.ExportBundleTests;
@@ -66,6 +67,7 @@ import org.junit.platform.suite.api.Suite;
 	ChainedReexportPerformanceTest.class, //
 	ClasspathUpdaterTest.class, //
 	ClasspathContainerStateTest.class, //
+	AffectedClasspathUpdateTest.class, //
 	PDESchemaHelperTest.class, //
 	ClasspathContributorTest.class, //
 	DynamicPluginProjectReferencesTest.class, //
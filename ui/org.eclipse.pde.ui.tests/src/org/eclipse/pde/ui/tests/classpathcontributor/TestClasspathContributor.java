@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,14 +22,14 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDescription;
-import org.eclipse.pde.core.IClasspathContributor;
+import org.eclipse.pde.internal.core.IThreadSafeClasspathContributor;
 import org.eclipse.pde.ui.tests.classpathresolver.ClasspathResolverTest;
 
 /**
  * Test classpath contributor that must be added as a extension for
  * {@link ClasspathContributorTest} to pass.
  */
-public class TestClasspathContributor implements IClasspathContributor {
+public class TestClasspathContributor implements IThreadSafeClasspathContributor {
 
 	public static List<IClasspathEntry> entries;
 	public static List<IClasspathEntry> entries2;
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.classpathupdater;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.core.build.IBuildEntry;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.internal.core.ClasspathComputer;
+import org.eclipse.pde.internal.core.ClasspathContainerState;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+import org.osgi.framework.Version;
+
+/**
+ * Tests that a change of a workspace bundle requests a classpath update for
+ * exactly the workspace plug-ins that can see the bundle.
+ */
+public class AffectedClasspathUpdateTest {
+
+	private static final String LEAF = "affected.leaf";
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	/**
+	 * Changes the version of the given bundle and returns the projects whose
+	 * classpath update is requested for the change. The update job is kept
+	 * from running, and from draining the requests, by holding the workspace
+	 * rule.
+	 */
+	private static List<IProject> changeBundle(IProject project) throws Exception {
+		Job.getJobManager().join(ClasspathComputer.class, null);
+		ISchedulingRule rule = ResourcesPlugin.getWorkspace().getRoot();
+		Job.getJobManager().beginRule(rule, null);
+		try {
+			IBundleProjectDescription description = ProjectCreationTests.getBundleProjectService()
+					.getDescription(project);
+			description.setBundleVersion(new Version(1, 0, 1));
+			description.apply(null);
+			return ClasspathContainerState.getQueuedProjects();
+		} finally {
+			Job.getJobManager().endRule(rule);
+		}
+	}
+
+	private static void assertQueued(List<IProject> queued, IProject... projects) {
+		for (IProject project : projects) {
+			assertTrue(project.getName() + " must be updated: " + queued, queued.contains(project));
+		}
+	}
+
+	private static void assertNotQueued(List<IProject> queued, IProject... projects) {
+		for (IProject project : projects) {
+			assertFalse(project.getName() + " must not be updated: " + queued, queued.contains(project));
+		}
+	}
+
+	@Test
+	public void testRequireBundleChain() throws Exception {
+		IProject leaf = ProjectUtils.createPluginProject(LEAF, "1.0.0");
+		IProject middle = ProjectUtils.createPluginProject("affected.middle", "1.0.0",
+				Map.of(Constants.REQUIRE_BUNDLE, LEAF));
+		IProject top = ProjectUtils.createPluginProject("affected.top", "1.0.0",
+				Map.of(Constants.REQUIRE_BUNDLE, "affected.middle"));
+		IProject unrelated = ProjectUtils.createPluginProject("affected.unrelated", "1.0.0");
+
+		List<IProject> queued = changeBundle(leaf);
+		assertQueued(queued, leaf, middle, top);
+		assertNotQueued(queued, unrelated);
+	}
+
+	@Test
+	public void testImportPackage() throws Exception {
+		IProject leaf = ProjectUtils.createPluginProject(LEAF, "1.0.0", Map.of(Constants.EXPORT_PACKAGE, LEAF));
+		IProject importer = ProjectUtils.createPluginProject("affected.importer", "1.0.0",
+				Map.of(Constants.IMPORT_PACKAGE, LEAF));
+		IProject unrelated = ProjectUtils.createPluginProject("affected.unrelated", "1.0.0");
+
+		List<IProject> queued = changeBundle(leaf);
+		assertQueued(queued, leaf, importer);
+		assertNotQueued(queued, unrelated);
+	}
+
+	@Test
+	public void testFragmentOfDependency() throws Exception {
+		ProjectUtils.createPluginProject("affected.host", "1.0.0");
+		IProject leaf = ProjectUtils.createPluginProject(LEAF, "1.0.0",
+				Map.of(Constants.FRAGMENT_HOST, "affected.host"));
+		IProject dependent = ProjectUtils.createPluginProject("affected.dependent", "1.0.0",
+				Map.of(Constants.REQUIRE_BUNDLE, "affected.host"));
+		IProject unrelated = ProjectUtils.createPluginProject("affected.unrelated", "1.0.0");
+
+		List<IProject> queued = changeBundle(leaf);
+		assertQueued(queued, leaf, dependent);
+		assertNotQueued(queued, unrelated);
+	}
+
+	@Test
+	public void testSecondaryDependency() throws Exception {
+		IProject leaf = ProjectUtils.createPluginProject(LEAF, "1.0.0");
+		IProject secondary = ProjectUtils.createPluginProject("affected.secondary", "1.0.0");
+		IFile buildProperties = secondary.getFile(ICoreConstants.BUILD_FILENAME_DESCRIPTOR);
+		byte[] content = (IBuildEntry.SECONDARY_DEPENDENCIES + " = " + LEAF + "\n").getBytes(StandardCharsets.ISO_8859_1);
+		if (buildProperties.exists()) {
+			buildProperties.setContents(new ByteArrayInputStream(content), true, false, null);
+		} else {
+			buildProperties.create(new ByteArrayInputStream(content), true, null);
+		}
+		IProject unrelated = ProjectUtils.createPluginProject("affected.unrelated", "1.0.0");
+
+		List<IProject> queued = changeBundle(leaf);
+		assertQueued(queued, leaf, secondary);
+		assertNotQueued(queued, unrelated);
+	}
+}
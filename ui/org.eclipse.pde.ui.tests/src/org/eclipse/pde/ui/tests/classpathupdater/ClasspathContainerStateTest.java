@@ -13,33 +13,49 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.classpathupdater;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.ClasspathComputer;
 import org.eclipse.pde.internal.core.ClasspathContainerState;
 import org.eclipse.pde.internal.core.ClasspathContainerState.UpdateRequest;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TestRule;
 
 /**
  * Tests that {@link ClasspathContainerState} deduplicates queued classpath
  * update requests for the same project, see
  * <a href="https://github.com/eclipse-pde/eclipse.pde/issues/2361">issue
- * 2361</a>.
+ * 2361</a>, and computes the same classpath with several workers as on the
+ * calling thread.
  */
 public class ClasspathContainerStateTest {
 
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
 	private static final IClasspathContainer SAVED_STATE_1 = container("saved state 1");
 	private static final IClasspathContainer SAVED_STATE_2 = container("saved state 2");
 
@@ -120,6 +136,45 @@ public class ClasspathContainerStateTest {
 		assertTrue(ClasspathContainerState.drainRequests(queue).isEmpty());
 	}
 
+	@Test
+	public void parallelComputationMatchesSerialComputation() throws Exception {
+		List<IProject> projects = new ArrayList<>();
+		for (String name : List.of("classpath.a", "classpath.b", "classpath.c", "classpath.d", "classpath.e")) {
+			projects.add(ProjectUtils.createPluginProject(name, (IExecutionEnvironment) null).getProject());
+		}
+
+		List<String> parallelThreads = new ArrayList<>();
+		Map<IProject, IClasspathEntry[]> parallel = computeClasspaths(projects, 4, parallelThreads);
+		Map<IProject, IClasspathEntry[]> serial = computeClasspaths(projects, 1, new ArrayList<>());
+
+		assertTrue("no classpath was computed by a worker: " + parallelThreads,
+				parallelThreads.contains("PDE Classpath Computation"));
+
+		assertEquals(projects, List.copyOf(parallel.keySet()));
+		assertEquals(projects, List.copyOf(serial.keySet()));
+		for (IProject project : projects) {
+			IPluginModelBase model = PDECore.getDefault().getModelManager().findModel(project);
+			IClasspathEntry[] expected = ClasspathComputer.computeClasspathEntries(model, project);
+			assertArrayEquals(project.getName(), expected, parallel.get(project));
+			assertArrayEquals(project.getName(), expected, serial.get(project));
+		}
+	}
+
+	private static Map<IProject, IClasspathEntry[]> computeClasspaths(List<IProject> projects, int workers,
+			List<String> threads) throws InterruptedException {
+		Map<IProject, IClasspathEntry[]> classpaths = new LinkedHashMap<>();
+		ClasspathContainerState.computeClasspaths(projects, workers, new NullProgressMonitor(), (result, i) -> {
+			assertNull(result.error());
+			assertNotNull(result.entries());
+			if (workers == 1) {
+				assertEquals(Thread.currentThread().getName(), result.thread());
+			}
+			threads.add(result.thread());
+			classpaths.put(projects.get(i), result.entries());
+		});
+		return classpaths;
+	}
+
 	private static IProject project(String name) {
 		return ResourcesPlugin.getWorkspace().getRoot().getProject(name);
 	}
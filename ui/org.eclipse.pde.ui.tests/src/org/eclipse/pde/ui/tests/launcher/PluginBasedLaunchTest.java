@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,10 @@ import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.resolution;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.osgi.framework.Constants.EXPORT_PACKAGE;
 import static org.osgi.framework.Constants.IMPORT_PACKAGE;
 import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
@@ -32,6 +36,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -57,6 +62,7 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
 import org.eclipse.pde.internal.core.DependencyManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.launching.IPDEConstants;
@@ -984,6 +990,31 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		assertThat(info, containsString(getInstallLocation(plugin2)));
 	}
 
+	@Test
+	public void testIncrementalLaunchKeepsUnchangedConfigIni() throws Exception {
+		var workspacePlugins = ofEntries( //
+				bundle("plugin.a", "1.0.0"), //
+				bundle("plugin.b", "1.0.0"));
+		setUpWorkspace(workspacePlugins, Map.of());
+
+		ILaunchConfigurationWorkingCopy launchConfig = createPluginLaunchConfig(
+				"testIncrementalLaunchKeepsUnchangedConfigIni");
+		launchConfig.setAttribute(IPDELauncherConstants.CONFIG_INCREMENTAL_AREA, true);
+		launchConfig.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES,
+				Set.of("plugin.a*1.0.0", "plugin.b*1.0.0"));
+
+		Path configIniFile = getConfigurationFolder(launchConfig).resolve("config.ini");
+		FileTime written = FileTime.fromMillis(Files.getLastModifiedTime(configIniFile).toMillis() - 10_000);
+		Files.setLastModifiedTime(configIniFile, written);
+
+		getConfigurationFolder(launchConfig);
+		assertEquals(written, Files.getLastModifiedTime(configIniFile));
+
+		launchConfig.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a*1.0.0"));
+		getConfigurationFolder(launchConfig);
+		assertNotEquals(written, Files.getLastModifiedTime(configIniFile));
+	}
+
 	// --- test cases for writeBundleEntry() ----
 
 	@Test
@@ -1117,6 +1148,49 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		assertEquals(Set.of(workspaceA), unresolved);
 	}
 
+	@Test
+	public void testUnchangedBundlesAreNotValidatedAgain() throws Exception {
+		var workspacePlugins = ofEntries( //
+				bundle("plugin.a", "1.0.0"), //
+				bundle("plugin.b", "1.0.0", entry(REQUIRE_BUNDLE, "plugin.a")));
+		setUpWorkspace(workspacePlugins, Map.of());
+
+		Set<IPluginModelBase> models = Set.of(workspaceBundle("plugin.a", "1.0.0").findModel(),
+				workspaceBundle("plugin.b", "1.0.0").findModel());
+
+		BundleValidationOperation first = new BundleValidationOperation(models);
+		first.run(new NullProgressMonitor());
+		BundleValidationOperation second = new BundleValidationOperation(new HashSet<>(models));
+		second.run(new NullProgressMonitor());
+
+		assertSame(first.getState(), second.getState());
+		assertFalse(second.hasErrors());
+	}
+
+	@Test
+	public void testGetMergedBundleMap_unchangedConfigurationReusesSnapshot() throws Exception {
+		var workspacePlugins = ofEntries( //
+				bundle("plugin.a", "1.0.0"), //
+				bundle("plugin.b", "1.0.0"));
+		setUpWorkspace(workspacePlugins, Map.of());
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("plugin-based-Eclipse-app");
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a*1.0.0"));
+
+		Map<IPluginModelBase, String> first = BundleLauncherHelper.getMergedBundleMap(wc, false);
+		first.put(workspaceBundle("plugin.b", "1.0.0").findModel(), "default:default");
+		Map<IPluginModelBase, String> second = BundleLauncherHelper.getMergedBundleMap(wc, false);
+
+		assertNotSame(first, second);
+		assertEquals(Set.of(workspaceBundle("plugin.a", "1.0.0").findModel()), second.keySet());
+
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a*1.0.0", "plugin.b*1.0.0"));
+		Map<IPluginModelBase, String> changed = BundleLauncherHelper.getMergedBundleMap(wc, false);
+
+		assertEquals(Set.of(workspaceBundle("plugin.a", "1.0.0").findModel(),
+				workspaceBundle("plugin.b", "1.0.0").findModel()), changed.keySet());
+	}
+
 	/**
 	 * Mirrors the selection logic of
 	 * {@code AbstractPluginBlock.removeUnresolvedPlugins()}: repeatedly validates
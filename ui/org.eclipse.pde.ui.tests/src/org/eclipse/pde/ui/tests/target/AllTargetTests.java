@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,10 +19,14 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({ TargetEnvironmentTestCase.class, //
 		TargetPlatformHelperTests.class, //
+		ManifestCacheTests.class, //
+		TargetStateCacheTests.class, //
+		MetadataRepositoryIndexTests.class, //
 		LocalTargetDefinitionTests.class, //
 		WorkspaceTargetDefinitionTests.class, //
 		TargetDefinitionPersistenceTests.class, //
 		TargetDefinitionResolutionTests.class, //
+		TargetChangedTests.class, //
 		TargetDefinitionFeatureResolutionTests.class, //
 		IUBundleContainerTests.class, //
 		ProfileContainerTests.class })
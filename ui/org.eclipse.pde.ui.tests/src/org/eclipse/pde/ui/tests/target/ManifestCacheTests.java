@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.util.ManifestCache;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests the manifest cache used to load target bundles
+ */
+public class ManifestCacheTests {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private static File createBundle(File directory, String symbolicName, String version) throws IOException {
+		File manifest = new File(directory, "META-INF/MANIFEST.MF");
+		manifest.getParentFile().mkdirs();
+		Files.writeString(manifest.toPath(), "Manifest-Version: 1.0\nBundle-ManifestVersion: 2\nBundle-SymbolicName: "
+				+ symbolicName + "\nBundle-Version: " + version + "\n", StandardCharsets.UTF_8);
+		return directory;
+	}
+
+	@Test
+	public void testUnchangedBundleIsServedFromCache() throws Exception {
+		File bundle = createBundle(tempFolder.newFolder("bundle"), "cached.bundle", "1.0.0");
+		ManifestCache cache = ManifestCache.getDefault();
+
+		Map<String, String> first = cache.loadManifest(bundle);
+		long hits = cache.getHits();
+		Map<String, String> second = cache.loadManifest(bundle);
+
+		assertEquals("cached.bundle", first.get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals(first, second);
+		assertEquals(hits + 1, cache.getHits());
+	}
+
+	@Test
+	public void testChangedBundleIsReadAgain() throws Exception {
+		File bundle = createBundle(tempFolder.newFolder("bundle"), "changed.bundle", "1.0.0");
+		ManifestCache cache = ManifestCache.getDefault();
+		cache.loadManifest(bundle);
+
+		createBundle(bundle, "changed.bundle", "2.0.0.qualifier");
+		long misses = cache.getMisses();
+		Map<String, String> manifest = cache.loadManifest(bundle);
+
+		assertEquals("2.0.0.qualifier", manifest.get(Constants.BUNDLE_VERSION));
+		assertEquals(misses + 1, cache.getMisses());
+	}
+
+	@Test
+	public void testReturnedManifestIsACopy() throws Exception {
+		File bundle = createBundle(tempFolder.newFolder("bundle"), "copied.bundle", "1.0.0");
+		ManifestCache cache = ManifestCache.getDefault();
+
+		cache.loadManifest(bundle).put(Constants.BUNDLE_SYMBOLICNAME, "modified");
+
+		assertEquals("copied.bundle", cache.loadManifest(bundle).get(Constants.BUNDLE_SYMBOLICNAME));
+	}
+
+	@Test
+	public void testNotABundleIsCached() throws Exception {
+		File folder = tempFolder.newFolder("notABundle");
+		ManifestCache cache = ManifestCache.getDefault();
+
+		CoreException first = assertThrows(CoreException.class, () -> cache.loadManifest(folder));
+		long hits = cache.getHits();
+		CoreException second = assertThrows(CoreException.class, () -> cache.loadManifest(folder));
+
+		assertEquals(ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST, first.getStatus().getCode());
+		assertEquals(ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST, second.getStatus().getCode());
+		assertEquals(hits + 1, cache.getHits());
+	}
+
+	@Test
+	public void testChangedPluginXmlIsReadAgain() throws Exception {
+		File folder = tempFolder.newFolder("pluginXml");
+		File pluginXml = new File(folder, "plugin.xml");
+		Files.writeString(pluginXml.toPath(), "<plugin id=\"old.style\" version=\"1.0.0\"/>", StandardCharsets.UTF_8);
+		ManifestCache cache = ManifestCache.getDefault();
+		assertEquals(pluginXml, ManifestCache.getManifestSource(folder));
+		assertThrows(CoreException.class, () -> cache.loadManifest(folder));
+
+		long lastModified = pluginXml.lastModified();
+		Files.writeString(pluginXml.toPath(), "<plugin id=\"old.style\" version=\"2.0.0\"/>", StandardCharsets.UTF_8);
+		pluginXml.setLastModified(lastModified + 10000);
+		long misses = cache.getMisses();
+		assertThrows(CoreException.class, () -> cache.loadManifest(folder));
+
+		assertEquals(misses + 1, cache.getMisses());
+	}
+}
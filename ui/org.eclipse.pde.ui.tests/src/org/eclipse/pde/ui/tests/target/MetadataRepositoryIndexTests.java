@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.IRepository;
+import org.eclipse.equinox.p2.repository.IRepositoryReference;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.equinox.p2.repository.spi.RepositoryReference;
+import org.eclipse.pde.internal.core.target.MetadataRepositoryIndex;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the index of local metadata repositories used to resolve software
+ * site locations
+ */
+public class MetadataRepositoryIndexTests {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private IMetadataRepositoryManager manager;
+	private URI location;
+
+	@Before
+	public void setUp() throws Exception {
+		Path source = Path.of(IUBundleContainerTests.getURI("/tests/sites/site.a.b"));
+		Path target = tempFolder.newFolder("site").toPath();
+		try (Stream<Path> files = Files.walk(source)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Path copy = target.resolve(source.relativize(file).toString());
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(copy);
+				} else {
+					Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+		manager = P2TargetUtils.getRepoManager();
+		location = target.toUri();
+	}
+
+	@After
+	public void tearDown() {
+		manager.removeRepository(location);
+	}
+
+	private static List<String> describe(List<IRepositoryReference> references) {
+		return references.stream().map(r -> r.getLocation() + " " + r.getNickname() + " " + r.getType() + " "
+				+ r.getOptions()).sorted().toList();
+	}
+
+	@Test
+	public void testIndexContainsAllUnits() throws Exception {
+		IMetadataRepository repository = manager.loadRepository(location, null);
+		repository.addReferences(List.of(
+				new RepositoryReference(URI.create("https://download.eclipse.org/a"), "A", IRepository.TYPE_METADATA,
+						IRepository.ENABLED),
+				new RepositoryReference(URI.create("https://download.eclipse.org/b"), null,
+						IRepository.TYPE_ARTIFACT, IRepository.NONE)));
+		Set<IInstallableUnit> units = repository.query(QueryUtil.createIUAnyQuery(), null).toUnmodifiableSet();
+		List<IRepositoryReference> references = new ArrayList<>(repository.getReferences());
+
+		MetadataRepositoryIndex written = MetadataRepositoryIndex.write(location, repository, manager);
+		assertNotNull(written);
+		assertSame(written, MetadataRepositoryIndex.read(location));
+
+		// read the index file back instead of the index kept in memory
+		MetadataRepositoryIndex.clearCache();
+		MetadataRepositoryIndex read = MetadataRepositoryIndex.read(location);
+
+		assertNotNull(read);
+		assertNotSame(written, read);
+		assertEquals(location, read.getLocation());
+		assertEquals(units.size(), read.size());
+		assertEquals(units, read.query(QueryUtil.createIUAnyQuery(), null).toUnmodifiableSet());
+		IInstallableUnit unit = read.query(QueryUtil.createIUQuery("feature.a.feature.group"), null).iterator()
+				.next();
+		assertEquals("feature.a.feature.group", unit.getId());
+		assertEquals(2, references.size());
+		assertEquals(describe(references), describe(read.getReferences()));
+	}
+
+	@Test
+	public void testChangedRepositoryIsNotServedFromIndex() throws Exception {
+		IMetadataRepository repository = manager.loadRepository(location, null);
+		assertNotNull(MetadataRepositoryIndex.write(location, repository, manager));
+
+		File content = new File(URI.create(location + "content.jar"));
+		content.setLastModified(content.lastModified() - 10_000);
+
+		assertNull(MetadataRepositoryIndex.read(location));
+	}
+}
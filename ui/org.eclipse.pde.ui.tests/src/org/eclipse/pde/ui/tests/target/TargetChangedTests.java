@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that changes of the target platform applied incrementally to the
+ * plug-in models give the same models, entries and state as a full reload
+ */
+public class TargetChangedTests extends AbstractTargetTest {
+
+	private Path fPlugins;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		fPlugins = extractAbcdePlugins().resolve("plugins");
+		setTargetPlatform(newDirectoryTarget());
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		resetTargetPlatform();
+		super.tearDown();
+	}
+
+	private ITargetDefinition newDirectoryTarget() {
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation container = getTargetService().newDirectoryLocation(fPlugins.toString());
+		definition.setTargetLocations(new ITargetLocation[] { container });
+		return definition;
+	}
+
+	private static void createBundle(Path directory, String symbolicName, String version) throws IOException {
+		Path manifest = directory.resolve("META-INF/MANIFEST.MF");
+		Files.createDirectories(manifest.getParent());
+		Files.writeString(manifest, "Manifest-Version: 1.0\nBundle-ManifestVersion: 2\nBundle-SymbolicName: "
+				+ symbolicName + "\nBundle-Version: " + version + "\n", StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Describes the models, the model entries and the bundles of the state,
+	 * leaving out the bundle ids which depend on the order the bundles were
+	 * added to the state.
+	 */
+	private static List<String> describeModels() {
+		List<String> description = new ArrayList<>();
+		for (IPluginModelBase model : PluginRegistry.getAllModels()) {
+			description.add("model " + model.getPluginBase().getId() + " " + model.getPluginBase().getVersion() + " "
+					+ model.getInstallLocation() + " " + model.isEnabled() + " " + (model.getUnderlyingResource() != null));
+			ModelEntry entry = PluginRegistry.findEntry(model.getPluginBase().getId());
+			description.add("entry " + entry.getId() + " " + entry.getWorkspaceModels().length + " "
+					+ entry.getExternalModels().length + " " + entry.getModel().getInstallLocation());
+		}
+		for (BundleDescription bundle : PDECore.getDefault().getModelManager().getState().getState().getBundles()) {
+			description.add("bundle " + bundle.getSymbolicName() + " " + bundle.getVersion() + " "
+					+ bundle.getLocation() + " " + bundle.isResolved());
+		}
+		Collections.sort(description);
+		return description;
+	}
+
+	/**
+	 * Checks that the models updated for the changed target match a full
+	 * reload of the models.
+	 */
+	private static void assertModelsMatchReload() {
+		List<String> changed = describeModels();
+		PDECore.getDefault().getModelManager().targetReloaded(null);
+		assertEquals(changed, describeModels());
+	}
+
+	@Test
+	public void testAddedBundle() throws Exception {
+		IPluginModelBase unchanged = PluginRegistry.findModel("bundle.b");
+		createBundle(fPlugins.resolve("bundle.f_1.0.0"), "bundle.f", "1.0.0");
+
+		setTargetPlatform(newDirectoryTarget());
+		assertSame(unchanged, PluginRegistry.findModel("bundle.b"));
+		assertNotNull(PluginRegistry.findModel("bundle.f"));
+		assertModelsMatchReload();
+	}
+
+	@Test
+	public void testRemovedBundle() throws Exception {
+		IPluginModelBase unchanged = PluginRegistry.findModel("bundle.b");
+		long removedId = PluginRegistry.findModel("bundle.a").getBundleDescription().getBundleId();
+		Files.delete(fPlugins.resolve("bundle.a_1.0.0.jar"));
+
+		setTargetPlatform(newDirectoryTarget());
+		assertSame(unchanged, PluginRegistry.findModel("bundle.b"));
+		assertNull(PluginRegistry.findModel("bundle.a"));
+		PDEState state = PDECore.getDefault().getModelManager().getState();
+		assertNull(state.getPluginName(removedId));
+		assertNull(state.getClassName(removedId));
+		assertModelsMatchReload();
+	}
+
+	@Test
+	public void testTouchedBundle() throws Exception {
+		IPluginModelBase unchanged = PluginRegistry.findModel("bundle.b");
+		IPluginModelBase touched = PluginRegistry.findModel("bundle.a");
+		File jar = fPlugins.resolve("bundle.a_1.0.0.jar").toFile();
+		jar.setLastModified(jar.lastModified() + 10000);
+
+		setTargetPlatform(newDirectoryTarget());
+		assertSame(unchanged, PluginRegistry.findModel("bundle.b"));
+		assertNotSame(touched, PluginRegistry.findModel("bundle.a"));
+		assertNotNull(PluginRegistry.findModel("bundle.a"));
+		assertModelsMatchReload();
+	}
+
+	@Test
+	public void testWorkspaceBundleOverridesAddedBundle() throws Exception {
+		ProjectUtils.createPluginProject("bundle.f", "1.0.0");
+		IPluginModelBase unchanged = PluginRegistry.findModel("bundle.b");
+		createBundle(fPlugins.resolve("bundle.f_1.0.0"), "bundle.f", "1.0.0");
+
+		setTargetPlatform(newDirectoryTarget());
+		assertSame(unchanged, PluginRegistry.findModel("bundle.b"));
+		ModelEntry entry = PluginRegistry.findEntry("bundle.f");
+		assertEquals(1, entry.getExternalModels().length);
+		assertNotNull(entry.getModel().getUnderlyingResource());
+		assertModelsMatchReload();
+	}
+
+	@Test
+	public void testEnvironmentChangeReloadsModels() throws Exception {
+		IPluginModelBase model = PluginRegistry.findModel("bundle.b");
+		ITargetDefinition target = newDirectoryTarget();
+		target.setNL("de".equals(TargetPlatform.getNL()) ? "fr" : "de");
+
+		setTargetPlatform(target);
+		assertNotSame(model, PluginRegistry.findModel("bundle.b"));
+		assertModelsMatchReload();
+	}
+
+	@Test
+	public void testRemovedSystemBundleReloadsModels() throws Exception {
+		String systemBundle = PDECore.getDefault().getModelManager().getSystemBundleId();
+		Path systemBundleDir = fPlugins.resolve(systemBundle + "_1.0.0");
+		createBundle(systemBundleDir, systemBundle, "1.0.0");
+		setTargetPlatform(newDirectoryTarget());
+		IPluginModelBase model = PluginRegistry.findModel("bundle.b");
+
+		delete(systemBundleDir.toFile());
+		setTargetPlatform(newDirectoryTarget());
+		assertNotSame(model, PluginRegistry.findModel("bundle.b"));
+		assertModelsMatchReload();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2025 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,15 +17,21 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.jdt.launching.JavaRuntime;
@@ -36,6 +42,8 @@ import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.target.IUBundleContainer;
+import org.eclipse.pde.internal.core.target.TargetDefinition;
+import org.eclipse.pde.internal.core.target.TargetResolutionStatus;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.junit.Test;
 
@@ -68,6 +76,91 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 		}
 	}
 
+	/**
+	 * Tests that the locations of a target are resolved concurrently with their
+	 * problems reported in the order of the locations.
+	 */
+	@Test
+	public void testConcurrentResolution() throws Exception {
+		Path dirPath = extractAbcdePlugins().resolve("plugins");
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation first = getTargetService().newDirectoryLocation("***FIRST***");
+		ITargetLocation container = getTargetService().newDirectoryLocation(dirPath.toString());
+		ITargetLocation second = getTargetService().newDirectoryLocation("***SECOND***");
+		definition.setTargetLocations(new ITargetLocation[] { first, container, second });
+
+		IStatus status = definition.resolve(null);
+
+		assertTrue(status instanceof TargetResolutionStatus);
+		IStatus[] children = status.getChildren();
+		assertEquals("Wrong number of children", 2, children.length);
+		assertEquals(first.getStatus().getMessage(), children[0].getMessage());
+		assertEquals(second.getStatus().getMessage(), children[1].getMessage());
+		assertEquals(10, container.getBundles().length);
+		Map<ITargetLocation, Duration> times = ((TargetResolutionStatus) status).getResolutionTimes();
+		assertEquals(3, times.size());
+		assertNotNull(times.get(container));
+	}
+
+	/**
+	 * Tests that a target resolved without problems returns the OK status and
+	 * still records the resolution times of its locations.
+	 */
+	@Test
+	public void testResolutionWithoutProblemsReturnsOK() throws Exception {
+		Path dirPath = extractAbcdePlugins().resolve("plugins");
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation container = getTargetService().newDirectoryLocation(dirPath.toString());
+		definition.setTargetLocations(new ITargetLocation[] { container });
+
+		IStatus status = definition.resolve(null);
+
+		assertSame(Status.OK_STATUS, status);
+		Map<ITargetLocation, Duration> times = ((TargetDefinition) definition).getResolutionTimes();
+		assertEquals(1, times.size());
+		assertNotNull(times.get(container));
+	}
+
+	/**
+	 * Tests that a directory location whose content did not change is not read
+	 * again when it is resolved in another target definition.
+	 */
+	@Test
+	public void testUnchangedLocationIsNotResolvedAgain() throws Exception {
+		Path dirPath = extractAbcdePlugins().resolve("plugins");
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation container = getTargetService().newDirectoryLocation(dirPath.toString());
+		definition.setTargetLocations(new ITargetLocation[] { container });
+		definition.resolve(null);
+
+		ITargetDefinition other = getNewTarget();
+		ITargetLocation same = getTargetService().newDirectoryLocation(dirPath.toString());
+		other.setTargetLocations(new ITargetLocation[] { same });
+		other.resolve(null);
+		assertSame(container.getBundles(), same.getBundles());
+
+		Files.delete(dirPath.resolve("bundle.a_1.0.0.jar"));
+		ITargetLocation changed = getTargetService().newDirectoryLocation(dirPath.toString());
+		other.setTargetLocations(new ITargetLocation[] { changed });
+		other.resolve(null);
+		assertEquals(container.getBundles().length - 1, changed.getBundles().length);
+	}
+
+	@Test
+	public void testCanceledResolution() throws Exception {
+		Path dirPath = extractAbcdePlugins().resolve("plugins");
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { getTargetService().newDirectoryLocation(dirPath.toString()),
+				getTargetService().newDirectoryLocation(TargetPlatform.getDefaultLocation()) });
+		IProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+
+		IStatus status = definition.resolve(monitor);
+
+		assertEquals(IStatus.CANCEL, status.getSeverity());
+		assertFalse(definition.isResolved());
+	}
+
 	/**
 	 * Tests that if we find a bundle with a bad or missing manifest when
 	 * resolving we create the correct status.
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the target state is restored from the target state cache only if
+ * none of the target bundles changed
+ */
+public class TargetStateCacheTests {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private final List<File> fBundles = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		fBundles.add(createBundle(tempFolder.newFolder("cached.a"), "cached.a", "1.0.0"));
+		fBundles.add(createBundle(tempFolder.newFolder("cached.b"), "cached.b", "1.0.0"));
+		fBundles.add(createBundle(tempFolder.newFolder("cached.c"), "cached.c", "2.0.0"));
+	}
+
+	private static File createBundle(File directory, String symbolicName, String version) throws IOException {
+		File manifest = new File(directory, "META-INF/MANIFEST.MF");
+		manifest.getParentFile().mkdirs();
+		Files.writeString(manifest.toPath(), "Manifest-Version: 1.0\nBundle-ManifestVersion: 2\nBundle-SymbolicName: "
+				+ symbolicName + "\nBundle-Version: " + version + "\nBundle-Name: " + symbolicName.toUpperCase()
+				+ "\nBundle-Activator: " + symbolicName + ".Activator\n", StandardCharsets.UTF_8);
+		return directory;
+	}
+
+	private PDEState createState() {
+		URI[] target = fBundles.stream().map(File::toURI).toArray(URI[]::new);
+		return new PDEState(target, true, false, true, new NullProgressMonitor());
+	}
+
+	/**
+	 * Describes the bundles of the state with their ids and auxiliary data in
+	 * the order of their ids.
+	 */
+	private static List<String> describe(PDEState state) {
+		List<String> description = new ArrayList<>();
+		description.add("system " + state.getSystemBundle());
+		BundleDescription[] bundles = state.getState().getBundles();
+		Arrays.sort(bundles, Comparator.comparingLong(BundleDescription::getBundleId));
+		for (BundleDescription bundle : bundles) {
+			long id = bundle.getBundleId();
+			description.add(id + " " + bundle.getSymbolicName() + " " + bundle.getVersion() + " "
+					+ bundle.getLocation() + " " + state.getPluginName(id) + " " + state.getClassName(id) + " "
+					+ state.hasBundleStructure(id));
+		}
+		return description;
+	}
+
+	private static BundleDescription getBundle(PDEState state, String symbolicName) {
+		BundleDescription[] bundles = state.getState().getBundles(symbolicName);
+		return bundles.length == 0 ? null : bundles[0];
+	}
+
+	@Test
+	public void testUnchangedTargetIsRestored() throws Exception {
+		PDEState created = createState();
+		assertFalse(created.isRestoredFromCache());
+
+		PDEState restored = createState();
+		assertTrue(restored.isRestoredFromCache());
+		assertEquals(3, restored.getState().getBundles().length);
+		assertEquals(describe(created), describe(restored));
+		assertEquals(3, restored.getTargetModels().length);
+	}
+
+	@Test
+	public void testTouchedManifestMissesCache() throws Exception {
+		createState();
+		File bundle = fBundles.get(1);
+		File manifest = new File(bundle, "META-INF/MANIFEST.MF");
+		long lastModified = manifest.lastModified();
+		// same length, only the time stamp tells the manifest apart
+		createBundle(bundle, "cached.b", "1.0.1");
+		manifest.setLastModified(lastModified + 10000);
+
+		PDEState changed = createState();
+		assertFalse(changed.isRestoredFromCache());
+		assertEquals("1.0.1", getBundle(changed, "cached.b").getVersion().toString());
+		assertTrue(createState().isRestoredFromCache());
+	}
+
+	@Test
+	public void testAddedBundleMissesCache() throws Exception {
+		createState();
+		fBundles.add(createBundle(tempFolder.newFolder("cached.d"), "cached.d", "1.0.0"));
+
+		PDEState changed = createState();
+		assertFalse(changed.isRestoredFromCache());
+		assertNotNull(getBundle(changed, "cached.d"));
+		assertEquals(4, changed.getState().getBundles().length);
+		assertTrue(createState().isRestoredFromCache());
+	}
+
+	@Test
+	public void testRemovedBundleMissesCache() throws Exception {
+		createState();
+		CoreUtility.deleteContent(fBundles.remove(0));
+
+		PDEState changed = createState();
+		assertFalse(changed.isRestoredFromCache());
+		assertNull(getBundle(changed, "cached.a"));
+		assertEquals(2, changed.getState().getBundles().length);
+		assertTrue(createState().isRestoredFromCache());
+	}
+}
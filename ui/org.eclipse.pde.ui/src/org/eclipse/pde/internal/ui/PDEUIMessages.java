@@ -1141,6 +1141,7 @@ public class PDEUIMessages extends NLS {
 
 	public static String ConfigurationTab_name;
 	public static String ConfigurationTab_clearArea;
+	public static String ConfigurationTab_incrementalArea;
 	public static String ConfigurationTab_configAreaGroup;
 	public static String ConfigurationTab_useDefaultLoc;
 	public static String ConfigurationTab_configLog;
@@ -1162,6 +1163,7 @@ public class PDEUIMessages extends NLS {
 	public static String ConfigurationTab_AttributeLabel_UseDefaultConfigArea;
 	public static String ConfigurationTab_AttributeLabel_ConfigLocation;
 	public static String ConfigurationTab_AttributeLabel_ConfigClearArea;
+	public static String ConfigurationTab_AttributeLabel_ConfigIncrementalArea;
 	public static String ConfigurationTab_AttributeLabel_ConfigGenerateDefault;
 	public static String ConfigurationTab_AttributeLabel_ConfigTemplateLocation;
 	public static String ConfigurationTab_AttributeLabel_GenerateProfile;
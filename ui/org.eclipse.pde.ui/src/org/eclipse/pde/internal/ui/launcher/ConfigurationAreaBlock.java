@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ public class ConfigurationAreaBlock extends BaseBlock {
 
 	private Button fUseDefaultLocationButton;
 	private Button fClearConfig;
+	private Button fIncrementalConfig;
 	private String fLastEnteredConfigArea;
 	private String fLastKnownConfigName;
 	private static String DEFAULT_DIR = "${workspace_loc}/.metadata/.plugins/org.eclipse.pde.core/"; //$NON-NLS-1$
@@ -86,8 +87,16 @@ public class ConfigurationAreaBlock extends BaseBlock {
 		fClearConfig.setText(PDEUIMessages.ConfigurationTab_clearArea);
 		fClearConfig.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
 		fClearConfig.addSelectionListener(fListener);
+		fClearConfig.addSelectionListener(widgetSelectedAdapter(e -> fIncrementalConfig.setEnabled(!fClearConfig.getSelection())));
 
 		createButtons(buttons, new String[] {PDEUIMessages.BaseBlock_workspace, PDEUIMessages.BaseBlock_filesystem, PDEUIMessages.BaseBlock_variables});
+
+		fIncrementalConfig = new Button(group, SWT.CHECK);
+		fIncrementalConfig.setText(PDEUIMessages.ConfigurationTab_incrementalArea);
+		gd = new GridData();
+		gd.horizontalSpan = 2;
+		fIncrementalConfig.setLayoutData(gd);
+		fIncrementalConfig.addSelectionListener(fListener);
 	}
 
 	public void initializeFrom(ILaunchConfiguration configuration) throws CoreException {
@@ -101,6 +110,8 @@ public class ConfigurationAreaBlock extends BaseBlock {
 		}
 
 		fClearConfig.setSelection(configuration.getAttribute(IPDELauncherConstants.CONFIG_CLEAR_AREA, true));
+		fIncrementalConfig.setSelection(configuration.getAttribute(IPDELauncherConstants.CONFIG_INCREMENTAL_AREA, false));
+		fIncrementalConfig.setEnabled(!fClearConfig.getSelection());
 
 		if (useDefaultArea) {
 			fLastEnteredConfigArea = DEFAULT_DIR + fLastKnownConfigName;
@@ -120,6 +131,7 @@ public class ConfigurationAreaBlock extends BaseBlock {
 		}
 		configuration.setAttribute(IPDELauncherConstants.CONFIG_LOCATION, getLocation());
 		configuration.setAttribute(IPDELauncherConstants.CONFIG_CLEAR_AREA, fClearConfig.getSelection());
+		configuration.setAttribute(IPDELauncherConstants.CONFIG_INCREMENTAL_AREA, fIncrementalConfig.getSelection());
 	}
 
 	public void setDefaults(ILaunchConfigurationWorkingCopy configuration, boolean isJUnit) {